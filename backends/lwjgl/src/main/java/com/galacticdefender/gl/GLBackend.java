@@ -0,0 +1,175 @@
+package com.galacticdefender.gl;
+
+import com.galacticdefender.engine.FrameProfiler;
+import com.galacticdefender.engine.GamePanel;
+import com.galacticdefender.engine.InputHandler;
+import com.galacticdefender.engine.RenderBackend;
+import com.galacticdefender.engine.WorldSnapshot;
+import com.galacticdefender.utils.Constants;
+import org.lwjgl.glfw.GLFWErrorCallback;
+import org.lwjgl.opengl.GL;
+
+import java.awt.event.KeyEvent;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.lwjgl.glfw.GLFW.*;
+import static org.lwjgl.system.MemoryUtil.NULL;
+
+/**
+ * OpenGL render backend: a GLFW window with a GL 3.3 core context, drawn
+ * through the instanced-quad GLRenderer. Selected with -Dgd.renderer=gl;
+ * RenderBackend.create loads it by name, so the game itself has no LWJGL
+ * dependency.
+ *
+ * GLFW and the context live on one thread of their own ("GLBackend-Thread"):
+ * it initialises GLFW, creates the window, polls events (so key callbacks run
+ * there too) and draws. renderFrame only hands it the snapshot and waits for
+ * the frame, so the snapshot stays the caller's for the whole draw. The
+ * constructor waits for the window, so a missing driver still falls back to
+ * Java2D. Keyboard input is translated to KeyEvent.VK_* codes and fed to the
+ * same InputHandler the Java2D window uses.
+ */
+public class GLBackend implements RenderBackend {
+
+    private static final long POLL_MS = 2; // longest wait for a frame before polling events again
+
+    private final InputHandler input;
+    private volatile boolean alive = true;
+    private RuntimeException startFailure;
+
+    // ── Frame hand-over: set by the caller, then ready ───────
+    private final Semaphore ready = new Semaphore(0), drawn = new Semaphore(0);
+    private GamePanel panel;
+    private WorldSnapshot snapshot;
+    private float alpha;
+
+    // ── GL thread only ────────────────────────────────────────
+    private long window;
+    private GLRenderer renderer;
+
+    public GLBackend(GamePanel panel, InputHandler input) {
+        this.input = input;
+        Semaphore started = new Semaphore(0);
+        Thread thread = new Thread(() -> run(started), "GLBackend-Thread");
+        thread.setDaemon(true);
+        thread.start();
+        started.acquireUninterruptibly();
+        if (startFailure != null)
+            throw startFailure;
+    }
+
+    @Override
+    public void renderFrame(GamePanel panel, WorldSnapshot snapshot, float alpha) {
+        if (!alive)
+            return;
+        this.panel = panel;
+        this.snapshot = snapshot;
+        this.alpha = alpha;
+        ready.release();
+        drawn.acquireUninterruptibly();
+    }
+
+    // ── GL thread ─────────────────────────────────────────────
+
+    private void run(Semaphore started) {
+        try {
+            createWindow();
+        } catch (RuntimeException e) {
+            startFailure = e;
+            alive = false;
+            return;
+        } finally {
+            started.release();
+        }
+
+        while (true) {
+            glfwPollEvents();
+            if (glfwWindowShouldClose(window))
+                System.exit(0);
+            try {
+                if (!ready.tryAcquire(POLL_MS, TimeUnit.MILLISECONDS))
+                    continue;
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                draw();
+            } catch (RuntimeException e) {
+                alive = false; // later frames return at once instead of waiting on a dead thread
+                throw e;
+            } finally {
+                drawn.release();
+            }
+        }
+    }
+
+    private void createWindow() {
+        GLFWErrorCallback.createPrint(System.err).set();
+        if (!glfwInit())
+            throw new IllegalStateException("Unable to initialise GLFW");
+
+        glfwDefaultWindowHints();
+        glfwWindowHint(GLFW_CONTEXT_VERSION_MAJOR, 3);
+        glfwWindowHint(GLFW_CONTEXT_VERSION_MINOR, 3);
+        glfwWindowHint(GLFW_OPENGL_PROFILE, GLFW_OPENGL_CORE_PROFILE);
+        glfwWindowHint(GLFW_OPENGL_FORWARD_COMPAT, GLFW_TRUE);
+        glfwWindowHint(GLFW_RESIZABLE, GLFW_FALSE);
+        window = glfwCreateWindow(Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT,
+                "Galactic Defender", NULL, NULL);
+        if (window == NULL) {
+            glfwTerminate();
+            throw new IllegalStateException("Unable to create an OpenGL 3.3 window");
+        }
+        glfwSetKeyCallback(window, (w, key, scancode, action, mods) -> {
+            int vk = toKeyCode(key);
+            if (vk == KeyEvent.VK_UNDEFINED)
+                return;
+            if (action == GLFW_PRESS)
+                input.press(vk);
+            else if (action == GLFW_RELEASE)
+                input.release(vk);
+        });
+
+        glfwMakeContextCurrent(window);
+        GL.createCapabilities();
+        glfwSwapInterval(0); // frame pacing is RenderLoop's job
+        renderer = new GLRenderer();
+    }
+
+    private void draw() {
+        int[] w = new int[1], h = new int[1];
+        glfwGetFramebufferSize(window, w, h);
+        renderer.begin(w[0], h[0]);
+        panel.renderFrame(renderer, snapshot, alpha);
+
+        FrameProfiler profiler = panel.getProfiler();
+        profiler.begin(FrameProfiler.Phase.PRESENT);
+        renderer.end();
+        glfwSwapBuffers(window);
+        profiler.end(FrameProfiler.Phase.PRESENT);
+    }
+
+    /** GLFW key to KeyEvent.VK_* code, VK_UNDEFINED if the game has no use for it. */
+    static int toKeyCode(int key) {
+        // Letters, digits and space share their ASCII codes in both
+        if ((key >= GLFW_KEY_A && key <= GLFW_KEY_Z) || (key >= GLFW_KEY_0 && key <= GLFW_KEY_9)
+                || key == GLFW_KEY_SPACE)
+            return key;
+        if (key >= GLFW_KEY_F1 && key <= GLFW_KEY_F12)
+            return KeyEvent.VK_F1 + (key - GLFW_KEY_F1);
+        return switch (key) {
+            case GLFW_KEY_ENTER, GLFW_KEY_KP_ENTER -> KeyEvent.VK_ENTER;
+            case GLFW_KEY_ESCAPE -> KeyEvent.VK_ESCAPE;
+            case GLFW_KEY_LEFT -> KeyEvent.VK_LEFT;
+            case GLFW_KEY_RIGHT -> KeyEvent.VK_RIGHT;
+            case GLFW_KEY_UP -> KeyEvent.VK_UP;
+            case GLFW_KEY_DOWN -> KeyEvent.VK_DOWN;
+            case GLFW_KEY_TAB -> KeyEvent.VK_TAB;
+            case GLFW_KEY_BACKSPACE -> KeyEvent.VK_BACK_SPACE;
+            case GLFW_KEY_LEFT_SHIFT, GLFW_KEY_RIGHT_SHIFT -> KeyEvent.VK_SHIFT;
+            case GLFW_KEY_LEFT_CONTROL, GLFW_KEY_RIGHT_CONTROL -> KeyEvent.VK_CONTROL;
+            default -> KeyEvent.VK_UNDEFINED;
+        };
+    }
+}
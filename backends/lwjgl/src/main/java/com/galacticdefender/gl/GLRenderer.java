@@ -0,0 +1,373 @@
+package com.galacticdefender.gl;
+
+import com.galacticdefender.engine.Renderer;
+import com.galacticdefender.engine.ResourceLoader;
+import org.lwjgl.BufferUtils;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.lwjgl.opengl.GL33.*;
+
+/**
+ * Renderer that batches every call into instanced quads (OpenGL 3.3 core).
+ *
+ * One static unit quad is drawn once per instance; each instance carries
+ * its pixel rectangle, texture coordinates and RGBA tint. Instances are
+ * collected until the texture or blend mode changes, or the buffer fills,
+ * and then go out in a single glDrawArraysInstanced. Draws already arrive
+ * grouped by material (RenderQueue), so a frame is typically a handful of
+ * draw calls: background, platforms, atlas, stamps, HUD.
+ *
+ * BufferedImages are uploaded as textures on first use, keyed by
+ * identity, and re-uploaded after {@link #imageChanged}. Rects use a 1×1
+ * white texture and ovals an antialiased disc; text is rasterised once per
+ * (string, font, colour) into a small LRU cache.
+ *
+ * Must be used on the thread that owns the GL context.
+ */
+class GLRenderer implements Renderer {
+
+    private static final int MAX_INSTANCES = 4096;
+    private static final int FLOATS = 12; // x, y, w, h, u0, v0, u1, v1, r, g, b, a
+    private static final int DISC_SIZE = 64;
+    private static final int TEXT_CACHE = 256;
+
+    private static final String VERTEX = """
+            #version 330 core
+            layout(location = 0) in vec2 corner;
+            layout(location = 1) in vec4 rect;
+            layout(location = 2) in vec4 uv;
+            layout(location = 3) in vec4 tint;
+            uniform vec2 viewport;
+            out vec2 vUv;
+            out vec4 vTint;
+            void main() {
+                vec2 p = rect.xy + corner * rect.zw;
+                gl_Position = vec4(p.x / viewport.x * 2.0 - 1.0, 1.0 - p.y / viewport.y * 2.0, 0.0, 1.0);
+                vUv = mix(uv.xy, uv.zw, corner);
+                vTint = tint;
+            }
+            """;
+
+    private static final String FRAGMENT = """
+            #version 330 core
+            in vec2 vUv;
+            in vec4 vTint;
+            uniform sampler2D tex;
+            out vec4 color;
+            void main() {
+                color = texture(tex, vUv) * vTint;
+            }
+            """;
+
+    /** A texture made from a BufferedImage. */
+    private static final class Texture {
+        final int id, w, h;
+        boolean stale;
+
+        Texture(int id, int w, int h) {
+            this.id = id;
+            this.w = w;
+            this.h = h;
+        }
+    }
+
+    /** A rasterised string; (ox, oy) is the baseline origin within the image. */
+    private record Text(BufferedImage image, int ox, int oy) {
+    }
+
+    private final int program, vao, quadVbo, instanceVbo, viewportLoc;
+    private final FloatBuffer instances = BufferUtils.createFloatBuffer(MAX_INSTANCES * FLOATS);
+    private int count;
+
+    private final Map<BufferedImage, Texture> textures = new IdentityHashMap<>();
+    private final BufferedImage white, disc;
+    private final Graphics2D metrics; // FontMetrics source for textWidth and text
+    private final Map<String, Text> texts = new LinkedHashMap<>(TEXT_CACHE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Text> eldest) {
+            if (size() <= TEXT_CACHE)
+                return false;
+            Texture t = textures.remove(eldest.getValue().image());
+            if (t != null)
+                glDeleteTextures(t.id);
+            return true;
+        }
+    };
+    private final int[] region = new int[4];
+
+    private Texture bound;
+    private Blend blend = Blend.NORMAL;
+    private float alpha = 1f;
+    private double tx, ty;
+
+    GLRenderer() {
+        program = link(compile(GL_VERTEX_SHADER, VERTEX), compile(GL_FRAGMENT_SHADER, FRAGMENT));
+        viewportLoc = glGetUniformLocation(program, "viewport");
+
+        vao = glGenVertexArrays();
+        glBindVertexArray(vao);
+
+        quadVbo = glGenBuffers();
+        glBindBuffer(GL_ARRAY_BUFFER, quadVbo);
+        glBufferData(GL_ARRAY_BUFFER, new float[] { 0, 0, 1, 0, 0, 1, 1, 1 }, GL_STATIC_DRAW);
+        glEnableVertexAttribArray(0);
+        glVertexAttribPointer(0, 2, GL_FLOAT, false, 0, 0);
+
+        instanceVbo = glGenBuffers();
+        glBindBuffer(GL_ARRAY_BUFFER, instanceVbo);
+        glBufferData(GL_ARRAY_BUFFER, (long) MAX_INSTANCES * FLOATS * Float.BYTES, GL_STREAM_DRAW);
+        int stride = FLOATS * Float.BYTES;
+        for (int attr = 1; attr <= 3; attr++) {
+            glEnableVertexAttribArray(attr);
+            glVertexAttribPointer(attr, 4, GL_FLOAT, false, stride, (long) (attr - 1) * 4 * Float.BYTES);
+            glVertexAttribDivisor(attr, 1);
+        }
+        glBindVertexArray(0);
+
+        white = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        white.setRGB(0, 0, 0xFFFFFFFF);
+        disc = new BufferedImage(DISC_SIZE, DISC_SIZE, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = disc.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setColor(Color.WHITE);
+        g.fillOval(0, 0, DISC_SIZE, DISC_SIZE);
+        g.dispose();
+
+        metrics = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB).createGraphics();
+        metrics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+    }
+
+    /** Start a frame covering width × height pixels. */
+    void begin(int width, int height) {
+        glViewport(0, 0, width, height);
+        glClearColor(0f, 0f, 0f, 1f);
+        glClear(GL_COLOR_BUFFER_BIT);
+        glEnable(GL_BLEND);
+        glBlendFunc(GL_SRC_ALPHA, GL_ONE_MINUS_SRC_ALPHA);
+        glUseProgram(program);
+        glUniform2f(viewportLoc, width, height);
+        glActiveTexture(GL_TEXTURE0);
+        glBindVertexArray(vao);
+        blend = Blend.NORMAL;
+        alpha = 1f;
+        tx = ty = 0;
+        bound = null;
+    }
+
+    /** Submit whatever is still batched. */
+    void end() {
+        flush();
+        glBindVertexArray(0);
+    }
+
+    // ── Images ────────────────────────────────────────────────
+
+    @Override
+    public boolean sprite(int id, boolean mirrored, int x, int y) {
+        BufferedImage atlas = id < 0 ? null : ResourceLoader.spriteRegion(id, mirrored, region);
+        if (atlas == null)
+            return false;
+        imageRegion(atlas, x, y, region[0], region[1], region[2], region[3]);
+        return true;
+    }
+
+    @Override
+    public void image(BufferedImage img, int x, int y) {
+        imageRegion(img, x, y, 0, 0, img.getWidth(), img.getHeight());
+    }
+
+    @Override
+    public void imageRegion(BufferedImage img, int dx, int dy, int sx, int sy, int w, int h) {
+        Texture t = texture(img);
+        quad(t, dx, dy, w, h, (float) sx / t.w, (float) sy / t.h,
+                (float) (sx + w) / t.w, (float) (sy + h) / t.h, 1f, 1f, 1f, 1f);
+    }
+
+    @Override
+    public void layer(BufferedImage img, int x, int y) {
+        image(img, x, y); // every texture already stays resident
+    }
+
+    @Override
+    public void imageChanged(BufferedImage img) {
+        Texture t = textures.get(img);
+        if (t != null)
+            t.stale = true;
+    }
+
+    // ── Shapes and text ───────────────────────────────────────
+
+    @Override
+    public void fillRect(int x, int y, int w, int h, Color c) {
+        tinted(texture(white), x, y, w, h, c);
+    }
+
+    @Override
+    public void drawRect(int x, int y, int w, int h, Color c) {
+        Texture t = texture(white);
+        tinted(t, x, y, w + 1, 1, c);
+        tinted(t, x, y + h, w + 1, 1, c);
+        tinted(t, x, y + 1, 1, h - 1, c);
+        tinted(t, x + w, y + 1, 1, h - 1, c);
+    }
+
+    @Override
+    public void fillOval(int x, int y, int w, int h, Color c) {
+        tinted(texture(disc), x, y, w, h, c);
+    }
+
+    @Override
+    public void text(String s, int x, int y, Font font, Color c) {
+        String key = font.getName() + '|' + font.getStyle() + '|' + font.getSize() + '|'
+                + c.getRGB() + '|' + s;
+        Text t = texts.get(key);
+        if (t == null) {
+            t = rasterise(s, font, c);
+            texts.put(key, t);
+        }
+        image(t.image, x - t.ox, y - t.oy);
+    }
+
+    @Override
+    public int textWidth(String s, Font font) {
+        return metrics.getFontMetrics(font).stringWidth(s);
+    }
+
+    private Text rasterise(String s, Font font, Color c) {
+        FontMetrics fm = metrics.getFontMetrics(font);
+        int w = Math.max(1, fm.stringWidth(s) + 2), h = Math.max(1, fm.getAscent() + fm.getDescent());
+        BufferedImage img = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = img.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g.setFont(font);
+        g.setColor(c);
+        g.drawString(s, 1, fm.getAscent());
+        g.dispose();
+        return new Text(img, 1, fm.getAscent());
+    }
+
+    // ── State ─────────────────────────────────────────────────
+
+    @Override
+    public void setAlpha(float alpha) {
+        this.alpha = Math.max(0f, Math.min(1f, alpha));
+    }
+
+    @Override
+    public float getAlpha() {
+        return alpha;
+    }
+
+    @Override
+    public void setBlend(Blend blend) {
+        if (blend == this.blend)
+            return;
+        flush();
+        this.blend = blend;
+        glBlendFunc(GL_SRC_ALPHA, blend == Blend.ADDITIVE ? GL_ONE : GL_ONE_MINUS_SRC_ALPHA);
+    }
+
+    @Override
+    public void translate(double dx, double dy) {
+        tx += dx;
+        ty += dy;
+    }
+
+    // ── Batching ──────────────────────────────────────────────
+
+    private void tinted(Texture t, int x, int y, int w, int h, Color c) {
+        quad(t, x, y, w, h, 0f, 0f, 1f, 1f, c.getRed() / 255f, c.getGreen() / 255f,
+                c.getBlue() / 255f, c.getAlpha() / 255f);
+    }
+
+    private void quad(Texture t, int x, int y, int w, int h,
+            float u0, float v0, float u1, float v1, float r, float g, float b, float a) {
+        if (w <= 0 || h <= 0)
+            return;
+        if (t != bound || count == MAX_INSTANCES) {
+            flush();
+            if (t != bound) {
+                glBindTexture(GL_TEXTURE_2D, t.id);
+                bound = t;
+            }
+        }
+        instances.put((float) (x + tx)).put((float) (y + ty)).put(w).put(h)
+                .put(u0).put(v0).put(u1).put(v1)
+                .put(r).put(g).put(b).put(a * alpha);
+        count++;
+    }
+
+    private void flush() {
+        if (count == 0)
+            return;
+        instances.flip();
+        glBindBuffer(GL_ARRAY_BUFFER, instanceVbo);
+        glBufferSubData(GL_ARRAY_BUFFER, 0, instances);
+        glDrawArraysInstanced(GL_TRIANGLE_STRIP, 0, 4, count);
+        instances.clear();
+        count = 0;
+    }
+
+    /** The texture for img, uploading it on first use or after a change. */
+    private Texture texture(BufferedImage img) {
+        Texture t = textures.get(img);
+        if (t != null && !t.stale)
+            return t;
+        if (t == null) {
+            t = new Texture(glGenTextures(), img.getWidth(), img.getHeight());
+            textures.put(img, t);
+        }
+        if (t == bound)
+            flush(); // queued quads still sample the old contents
+        upload(t, img);
+        t.stale = false;
+        return t;
+    }
+
+    private void upload(Texture t, BufferedImage img) {
+        IntBuffer pixels = BufferUtils.createIntBuffer(t.w * t.h);
+        pixels.put(img.getRGB(0, 0, t.w, t.h, null, 0, t.w)).flip();
+        glBindTexture(GL_TEXTURE_2D, t.id);
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, GL_NEAREST);
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, GL_NEAREST);
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_S, GL_CLAMP_TO_EDGE);
+        glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_T, GL_CLAMP_TO_EDGE);
+        // getRGB yields ARGB ints: BGRA byte order with the reversed packed type
+        glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA8, t.w, t.h, 0, GL_BGRA,
+                GL_UNSIGNED_INT_8_8_8_8_REV, pixels);
+        if (bound != null && bound != t)
+            glBindTexture(GL_TEXTURE_2D, bound.id);
+        else
+            bound = t;
+    }
+
+    // ── Shaders ───────────────────────────────────────────────
+
+    private static int compile(int type, String source) {
+        int shader = glCreateShader(type);
+        glShaderSource(shader, source);
+        glCompileShader(shader);
+        if (glGetShaderi(shader, GL_COMPILE_STATUS) == GL_FALSE)
+            throw new IllegalStateException("Shader compile failed: " + glGetShaderInfoLog(shader));
+        return shader;
+    }
+
+    private static int link(int vertex, int fragment) {
+        int program = glCreateProgram();
+        glAttachShader(program, vertex);
+        glAttachShader(program, fragment);
+        glLinkProgram(program);
+        if (glGetProgrami(program, GL_LINK_STATUS) == GL_FALSE)
+            throw new IllegalStateException("Shader link failed: " + glGetProgramInfoLog(program));
+        glDeleteShader(vertex);
+        glDeleteShader(fragment);
+        return program;
+    }
+}
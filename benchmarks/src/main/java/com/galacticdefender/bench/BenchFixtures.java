@@ -0,0 +1,39 @@
+package com.galacticdefender.bench;
+
+import com.galacticdefender.engine.GameEngine;
+import com.galacticdefender.managers.SceneManager;
+import com.galacticdefender.objects.BasicEnemy;
+import com.galacticdefender.objects.Enemy;
+import com.galacticdefender.objects.FastEnemy;
+import com.galacticdefender.utils.Constants;
+
+import java.util.Random;
+
+/**
+ * Shared set-up for the benchmarks: a headless engine already in the
+ * PLAYING scene and helpers to scatter entities over the playfield with a
+ * fixed seed, so every run measures the same layout.
+ */
+final class BenchFixtures {
+    private BenchFixtures() {
+    }
+
+    static final long SEED = 42L;
+    static final float DT = 1f / Constants.FPS;
+
+    /** Headless engine in the PLAYING scene with a permanently shielded player. */
+    static GameEngine playingEngine() {
+        System.setProperty("java.awt.headless", "true");
+        GameEngine engine = new GameEngine(true);
+        engine.getScene().setState(SceneManager.Scene.PLAYING);
+        engine.getPlayer().activateShield(Long.MAX_VALUE); // never reaches GAME_OVER
+        return engine;
+    }
+
+    /** Mix of basic and fast enemies spread over the playfield. */
+    static Enemy randomEnemy(Random rng) {
+        float x = rng.nextFloat() * (Constants.WINDOW_WIDTH - 60);
+        float y = rng.nextFloat() * (Constants.WINDOW_HEIGHT - 80);
+        return rng.nextBoolean() ? new BasicEnemy(x, y) : new FastEnemy(x, y);
+    }
+}
@@ -0,0 +1,73 @@
+package com.galacticdefender.bench;
+
+import com.galacticdefender.managers.CollisionManager;
+import com.galacticdefender.managers.ScoreManager;
+import com.galacticdefender.objects.BulletSystem;
+import com.galacticdefender.objects.Enemy;
+import com.galacticdefender.objects.GameObject;
+import com.galacticdefender.objects.Player;
+import com.galacticdefender.engine.InputHandler;
+import com.galacticdefender.utils.Constants;
+import com.galacticdefender.utils.GameClock;
+import com.galacticdefender.utils.World;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CollisionManager.checkAll with {@code entityCount} enemies and ten times as
+ * many bullets in flight.
+ *
+ * Bullets are placed in the same grid cells as their enemy but just below
+ * its box, so pairs go through broad and narrow phase without a hit. Where
+ * the random layout does overlap another enemy the bullet is consumed on
+ * the first call, after which the world is stable; it is rebuilt for every
+ * iteration so measurements do not drift.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+
+    @Param({ "10", "100", "1000", "10000" })
+    public int entityCount;
+
+    private CollisionManager collision;
+    private ScoreManager score;
+    private Player player;
+    private List<GameObject> objects;
+    private BulletSystem bullets;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        World.init();
+        Random rng = new Random(BenchFixtures.SEED);
+        collision = new CollisionManager();
+        score = new ScoreManager();
+        player = new Player(-500, -500, new InputHandler(), new GameClock()); // parked offscreen
+
+        objects = new ArrayList<>(entityCount);
+        bullets = new BulletSystem(entityCount * 10);
+        for (int i = 0; i < entityCount; i++) {
+            Enemy e = BenchFixtures.randomEnemy(rng);
+            objects.add(e);
+            for (int b = 0; b < 10; b++) {
+                float bx = e.getX() + rng.nextFloat() * e.getWidth();
+                float by = e.getY() + e.getHeight() + 1 + rng.nextFloat() * 8;
+                bullets.spawn(bx, by, Constants.BULLET_SPEED, 0, b % 2 == 0);
+            }
+        }
+    }
+
+    @Benchmark
+    public void checkAll(Blackhole bh) {
+        bh.consume(collision.checkAll(objects, bullets, player, score));
+    }
+}
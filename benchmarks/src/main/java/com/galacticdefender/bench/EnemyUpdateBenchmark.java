@@ -0,0 +1,53 @@
+package com.galacticdefender.bench;
+
+import com.galacticdefender.engine.InputHandler;
+import com.galacticdefender.objects.BulletSystem;
+import com.galacticdefender.objects.Enemy;
+import com.galacticdefender.objects.Player;
+import com.galacticdefender.utils.GameClock;
+import com.galacticdefender.utils.World;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enemy.update(dt, player) – AI, gravity and platform landing – for
+ * {@code entityCount} enemies. Queued shots are drained into a bullet
+ * system that is cleared every call so memory stays flat.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnemyUpdateBenchmark {
+
+    @Param({ "10", "100", "1000", "10000" })
+    public int entityCount;
+
+    private Enemy[] enemies;
+    private Player player;
+    private final BulletSystem shots = new BulletSystem();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        World.init();
+        Random rng = new Random(BenchFixtures.SEED);
+        player = new Player(420, 560, new InputHandler(), new GameClock());
+        enemies = new Enemy[entityCount];
+        for (int i = 0; i < entityCount; i++)
+            enemies[i] = BenchFixtures.randomEnemy(rng);
+    }
+
+    @Benchmark
+    public Enemy[] updateWithPlatformLanding() {
+        for (Enemy e : enemies) {
+            e.update(BenchFixtures.DT, player);
+            e.drainPendingBullets(shots);
+        }
+        shots.clear();
+        return enemies;
+    }
+}
@@ -0,0 +1,58 @@
+package com.galacticdefender.bench;
+
+import com.galacticdefender.objects.ExplosionEffect;
+import com.galacticdefender.utils.Constants;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ExplosionEffect.update for {@code entityCount} live explosions. Finished
+ * effects are recycled and re-obtained in place, so the benchmark also
+ * covers the pool churn of a steady stream of kills.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExplosionBenchmark {
+
+    @Param({ "10", "100", "1000", "10000" })
+    public int entityCount;
+
+    private ExplosionEffect[] effects;
+    private float[] cx, cy;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random rng = new Random(BenchFixtures.SEED);
+        ExplosionEffect.POOL.setCapacity(Math.max(entityCount, Constants.EXPLOSION_POOL_CAP));
+        effects = new ExplosionEffect[entityCount];
+        cx = new float[entityCount];
+        cy = new float[entityCount];
+        for (int i = 0; i < entityCount; i++) {
+            cx[i] = rng.nextFloat() * Constants.WINDOW_WIDTH;
+            cy[i] = rng.nextFloat() * Constants.WINDOW_HEIGHT;
+            effects[i] = ExplosionEffect.obtain(cx[i], cy[i]);
+            // Stagger the animations so recycling is spread over frames
+            for (int f = rng.nextInt(25); f > 0; f--)
+                effects[i].update(BenchFixtures.DT);
+        }
+    }
+
+    @Benchmark
+    public ExplosionEffect[] update() {
+        for (int i = 0; i < effects.length; i++) {
+            ExplosionEffect fx = effects[i];
+            fx.update(BenchFixtures.DT);
+            if (!fx.isActive()) {
+                fx.recycle();
+                effects[i] = ExplosionEffect.obtain(cx[i], cy[i]);
+            }
+        }
+        return effects;
+    }
+}
@@ -0,0 +1,79 @@
+package com.galacticdefender.bench;
+
+import com.galacticdefender.engine.EntityStore;
+import com.galacticdefender.managers.SpawnManager;
+import com.galacticdefender.objects.GameObject;
+import com.galacticdefender.utils.GameClock;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SpawnManager.update followed by removal of the same number of dead
+ * objects from a world of {@code entityCount} objects. {@code entityStore}
+ * measures the current EntityStore flush; {@code copyOnWriteRemoveIf} keeps
+ * the old CopyOnWriteArrayList addAll + removeIf path as a reference.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpawnChurnBenchmark {
+
+    /** One wave interval, so every call after the first spawns one wave. */
+    private static final float WAVE_DT = 6f;
+
+    private final GameClock clock = new GameClock();
+
+    @Param({ "10", "100", "1000", "10000" })
+    public int entityCount;
+
+    private SpawnManager spawn;
+    private EntityStore store;
+    private CopyOnWriteArrayList<GameObject> cow;
+    private Random rng;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        rng = new Random(BenchFixtures.SEED);
+        spawn = new SpawnManager(clock);
+        store = new EntityStore();
+        cow = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < entityCount; i++) {
+            GameObject e = BenchFixtures.randomEnemy(rng);
+            store.add(e);
+            cow.add(BenchFixtures.randomEnemy(rng));
+        }
+        store.flush();
+    }
+
+    @Benchmark
+    public EntityStore entityStore() {
+        clock.advance(WAVE_DT);
+        List<GameObject> wave = spawn.update(2);
+        killRandom(store.asList(), wave.size());
+        store.addAll(wave);
+        store.flush();
+        return store;
+    }
+
+    @Benchmark
+    public List<GameObject> copyOnWriteRemoveIf() {
+        clock.advance(WAVE_DT);
+        List<GameObject> wave = spawn.update(2);
+        killRandom(cow, wave.size());
+        cow.addAll(wave);
+        cow.removeIf(obj -> !obj.isActive());
+        return cow;
+    }
+
+    private void killRandom(List<GameObject> world, int n) {
+        for (int i = 0; i < n && !world.isEmpty(); i++)
+            world.get(rng.nextInt(world.size())).setActive(false);
+    }
+}
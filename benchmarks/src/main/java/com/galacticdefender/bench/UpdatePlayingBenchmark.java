@@ -0,0 +1,60 @@
+package com.galacticdefender.bench;
+
+import com.galacticdefender.engine.EntityStore;
+import com.galacticdefender.engine.GameEngine;
+import com.galacticdefender.engine.GamePanel;
+import com.galacticdefender.objects.BulletSystem;
+import com.galacticdefender.utils.Constants;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One full GamePanel.update in the PLAYING scene (player, object update,
+ * bullets, collision, spawning and the EntityStore flush) with
+ * {@code entityCount} enemies and as many bullets. The world is rebuilt for
+ * every iteration because enemies keep shooting and waves keep spawning.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UpdatePlayingBenchmark {
+
+    @Param({ "10", "100", "1000", "10000" })
+    public int entityCount;
+
+    private GameEngine engine;
+    private GamePanel panel;
+
+    @Setup(Level.Trial)
+    public void setUpEngine() {
+        engine = BenchFixtures.playingEngine();
+        panel = engine.getPanel();
+    }
+
+    @Setup(Level.Iteration)
+    public void populate() {
+        panel.clearObjects();
+        Random rng = new Random(BenchFixtures.SEED);
+        EntityStore objects = panel.getObjects();
+        BulletSystem bullets = panel.getBullets();
+        for (int i = 0; i < entityCount; i++) {
+            objects.add(BenchFixtures.randomEnemy(rng));
+            bullets.spawn(rng.nextFloat() * Constants.WINDOW_WIDTH,
+                    rng.nextFloat() * Constants.WINDOW_HEIGHT,
+                    rng.nextBoolean() ? Constants.BULLET_SPEED : -Constants.BULLET_SPEED,
+                    0, rng.nextBoolean());
+        }
+        objects.flush();
+    }
+
+    @Benchmark
+    public EntityStore updatePlaying() {
+        panel.update(BenchFixtures.DT);
+        return panel.getObjects();
+    }
+}
@@ -0,0 +1,116 @@
+package com.galacticdefender.engine;
+
+import com.galacticdefender.utils.Constants;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decodes and scales every asset in a manifest on a worker pool while the
+ * start screen is up, so nothing is read from disk or resampled during
+ * play.
+ *
+ * Three stages, each fanned out over the pool:
+ * 1. decode every distinct file (ResourceLoader.loadImage)
+ * 2. scale manifest entries that have a target size, and every defined
+ *    sprite (ResourceLoader.prepareSprite)
+ * 3. pack the sprite atlas (ResourceLoader.buildAtlas)
+ *
+ * Sprites must be defined (Sprites class initialised) before start.
+ * GameEngine only lets the game begin once {@link #isDone()}.
+ */
+public class AssetPreloader {
+
+    /** One manifest entry: an image file and the size it is drawn at (0 × 0: as is). */
+    public record Asset(String path, int w, int h) {
+    }
+
+    /** Every image in Constants, at the size the game draws it. */
+    public static List<Asset> defaultManifest() {
+        return List.of(
+                new Asset(Constants.IMG_BG, StaticLayer.BACKGROUND_W, StaticLayer.BACKGROUND_H),
+                new Asset(Constants.IMG_PLAYER, 0, 0),
+                new Asset(Constants.IMG_ENEMY_BASIC, 0, 0),
+                new Asset(Constants.IMG_ENEMY_FAST, 0, 0),
+                new Asset(Constants.IMG_ENEMY_BOSS, 0, 0),
+                new Asset(Constants.IMG_POWERUP, 0, 0));
+    }
+
+    private final ExecutorService pool;
+    private final AtomicInteger completed = new AtomicInteger();
+    private final int total;
+    private final CompletableFuture<Void> finished;
+
+    private AssetPreloader(List<Asset> manifest, int threads) {
+        AtomicInteger n = new AtomicInteger();
+        pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "AssetPreloader-" + n.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        Set<String> files = new LinkedHashSet<>();
+        List<Asset> sized = new ArrayList<>();
+        for (Asset a : manifest) {
+            files.add(a.path());
+            if (a.w() > 0 && a.h() > 0)
+                sized.add(a);
+        }
+        int sprites = ResourceLoader.spriteCount();
+        total = files.size() + sized.size() + sprites + 1;
+
+        List<CompletableFuture<?>> decodes = new ArrayList<>();
+        for (String path : files)
+            decodes.add(task(() -> ResourceLoader.loadImage(path)));
+
+        finished = all(decodes).thenCompose(v -> {
+            List<CompletableFuture<?>> scales = new ArrayList<>();
+            for (Asset a : sized)
+                scales.add(task(() -> ResourceLoader.loadScaled(a.path(), a.w(), a.h())));
+            for (int id = 0; id < sprites; id++) {
+                int sprite = id;
+                scales.add(task(() -> ResourceLoader.prepareSprite(sprite)));
+            }
+            return all(scales);
+        }).thenCompose(v -> task(ResourceLoader::buildAtlas)).whenComplete((v, e) -> {
+            if (e != null)
+                System.err.println("[AssetPreloader] " + e);
+            pool.shutdown();
+        });
+    }
+
+    /** Start loading manifest on one worker per core. */
+    public static AssetPreloader start(List<Asset> manifest) {
+        return new AssetPreloader(manifest, Math.max(1, Runtime.getRuntime().availableProcessors()));
+    }
+
+    /** Fraction of the work done, 0..1. */
+    public float progress() {
+        return Math.min(1f, (float) completed.get() / total);
+    }
+
+    /** True once everything is loaded (or has failed and been logged). */
+    public boolean isDone() {
+        return finished.isDone();
+    }
+
+    private CompletableFuture<Void> task(Runnable work) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                work.run();
+            } finally {
+                completed.incrementAndGet();
+            }
+        }, pool);
+    }
+
+    private static CompletableFuture<Void> all(List<CompletableFuture<?>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+    }
+}
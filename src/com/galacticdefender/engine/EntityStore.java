@@ -0,0 +1,134 @@
+package com.galacticdefender.engine;
+
+import com.galacticdefender.objects.GameObject;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * World storage owned by the update tick.
+ *
+ * Objects added during a tick are buffered and only join the live list on
+ * {@link #flush()}; objects leave by being deactivated (setActive(false))
+ * and are swept out during the same flush. Each flush therefore costs one
+ * append per added object plus a single in-place compaction pass, instead
+ * of copying the whole array on every mutation as CopyOnWriteArrayList did.
+ *
+ * Rendering reads a double-buffered view that is republished at the end of
+ * each flush, so it never sees the live list mid-update.
+ */
+public class EntityStore {
+
+    private final ArrayList<GameObject> live = new ArrayList<>();
+    private final ArrayList<GameObject> pendingAdds = new ArrayList<>();
+    private final List<GameObject> liveView = Collections.unmodifiableList(live);
+
+    private View front = new View();
+    private View back = new View();
+
+    /** Queue an object to join the world at the next flush. */
+    public void add(GameObject obj) {
+        pendingAdds.add(obj);
+    }
+
+    /** Queue every object in the list to join the world at the next flush. */
+    public void addAll(List<? extends GameObject> objs) {
+        pendingAdds.addAll(objs);
+    }
+
+    /**
+     * Apply buffered changes: sweep inactive objects (recycling pooled ones),
+     * append pending additions in order, then publish a new render view.
+     */
+    public void flush() {
+        int n = live.size(), kept = 0;
+        for (int i = 0; i < n; i++) {
+            GameObject obj = live.get(i);
+            if (obj.isActive()) {
+                if (kept != i)
+                    live.set(kept, obj);
+                kept++;
+            } else {
+                obj.recycle();
+            }
+        }
+        if (kept < n)
+            live.subList(kept, n).clear();
+
+        live.addAll(pendingAdds);
+        pendingAdds.clear();
+
+        publish();
+    }
+
+    /** Drop everything (live and pending), recycling pooled objects. */
+    public void clear() {
+        for (GameObject obj : live)
+            obj.recycle();
+        for (GameObject obj : pendingAdds)
+            obj.recycle();
+        live.clear();
+        pendingAdds.clear();
+        publish();
+    }
+
+    // ── Tick-side access ──────────────────────────────────────
+
+    public int size() {
+        return live.size();
+    }
+
+    public GameObject get(int i) {
+        return live.get(i);
+    }
+
+    /** Read-only view of the live list, for passes such as collision. */
+    public List<GameObject> asList() {
+        return liveView;
+    }
+
+    // ── Render-side access ────────────────────────────────────
+
+    /** Objects as of the last flush; stable until the next flush. */
+    public List<GameObject> getRenderView() {
+        return front;
+    }
+
+    private void publish() {
+        back.copyFrom(live);
+        View t = front;
+        front = back;
+        back = t;
+    }
+
+    /** Fixed-array, read-only list so publishing allocates nothing. */
+    private static final class View extends AbstractList<GameObject> implements RandomAccess {
+        private GameObject[] items = new GameObject[64];
+        private int count;
+
+        void copyFrom(ArrayList<GameObject> src) {
+            int n = src.size();
+            if (n > items.length)
+                items = new GameObject[Math.max(n, items.length * 2)];
+            for (int i = 0; i < n; i++)
+                items[i] = src.get(i);
+            if (count > n)
+                Arrays.fill(items, n, count, null);
+            count = n;
+        }
+
+        @Override
+        public GameObject get(int i) {
+            return items[i];
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+    }
+}
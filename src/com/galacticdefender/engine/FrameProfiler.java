@@ -0,0 +1,115 @@
+package com.galacticdefender.engine;
+
+import java.util.Arrays;
+
+/**
+ * Lightweight per-phase frame timers.
+ *
+ * Each phase keeps its last {@link #SAMPLES} durations (System.nanoTime
+ * deltas) in a fixed ring buffer, so recording is a couple of array writes
+ * and never allocates. Percentiles are computed on demand from a copy of
+ * the ring (debug overlay, JMX), not on the hot path.
+ *
+ * Samples are written by the game loop thread only. Readers on other
+ * threads (JMX) may see a sample that is being overwritten; the figures
+ * are diagnostics, not accounting.
+ */
+public class FrameProfiler {
+
+    public enum Phase {
+        INPUT("input"),
+        PLAYER("player update"),
+        OBJECTS("object update"),
+        COLLISION("collision"),
+        SPAWN("spawn"),
+        CLEANUP("cleanup"),
+        WORLD_RENDER("world render"),
+        HUD_RENDER("HUD render"),
+        PRESENT("present"),
+        FRAME("frame total");
+
+        public final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+    }
+
+    /** Four seconds of history at 60 FPS. */
+    public static final int SAMPLES = 240;
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final long[][] samples = new long[PHASES.length][SAMPLES];
+    private final int[] next = new int[PHASES.length];
+    private final int[] filled = new int[PHASES.length];
+    private final long[] started = new long[PHASES.length];
+    private final long[] scratch = new long[SAMPLES];
+
+    private volatile boolean enabled = true;
+
+    // ── Recording (game thread) ──────────────────────────────
+
+    public void begin(Phase p) {
+        started[p.ordinal()] = System.nanoTime();
+    }
+
+    public void end(Phase p) {
+        if (enabled)
+            record(p, System.nanoTime() - started[p.ordinal()]);
+    }
+
+    public void record(Phase p, long nanos) {
+        int i = p.ordinal();
+        samples[i][next[i]] = nanos;
+        next[i] = (next[i] + 1) % SAMPLES;
+        if (filled[i] < SAMPLES)
+            filled[i]++;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void reset() {
+        Arrays.fill(next, 0);
+        Arrays.fill(filled, 0);
+    }
+
+    // ── Statistics (any thread) ──────────────────────────────
+
+    /**
+     * Fill {@code out} with p50, p95, p99 and max of the phase, in
+     * nanoseconds. All zero if the phase has no samples yet.
+     */
+    public synchronized void stats(Phase p, long[] out) {
+        int i = p.ordinal(), n = filled[i];
+        if (n == 0) {
+            Arrays.fill(out, 0, 4, 0L);
+            return;
+        }
+        System.arraycopy(samples[i], 0, scratch, 0, n);
+        Arrays.sort(scratch, 0, n);
+        out[0] = scratch[rank(n, 0.50)];
+        out[1] = scratch[rank(n, 0.95)];
+        out[2] = scratch[rank(n, 0.99)];
+        out[3] = scratch[n - 1];
+    }
+
+    /** Nearest-rank percentile index into a sorted array of n samples. */
+    private static int rank(int n, double q) {
+        return Math.min(n - 1, Math.max(0, (int) Math.ceil(q * n) - 1));
+    }
+
+    public int sampleCount(Phase p) {
+        return filled[p.ordinal()];
+    }
+
+    public static Phase[] phases() {
+        return PHASES;
+    }
+}
@@ -0,0 +1,106 @@
+package com.galacticdefender.engine;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Standard MBean exposing FrameProfiler percentiles, registered as
+ * {@value #OBJECT_NAME} so stutter can be inspected with jconsole or any
+ * JMX client while the game is running.
+ */
+public class FrameStats implements FrameStatsMBean {
+
+    public static final String OBJECT_NAME = "com.galacticdefender:type=FrameProfiler";
+
+    private final FrameProfiler profiler;
+    private final long[] buf = new long[4];
+
+    public FrameStats(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /** Register with the platform MBean server; failures are logged, not fatal. */
+    public static void register(FrameProfiler profiler) {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            var server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(name))
+                server.unregisterMBean(name);
+            server.registerMBean(new FrameStats(profiler), name);
+        } catch (Exception e) {
+            System.err.println("[FrameStats] Could not register MBean: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String[] getPhases() {
+        FrameProfiler.Phase[] phases = FrameProfiler.phases();
+        String[] out = new String[phases.length];
+        for (int i = 0; i < phases.length; i++)
+            out[i] = phases[i].label;
+        return out;
+    }
+
+    @Override
+    public double[] getP50Millis() {
+        return column(0);
+    }
+
+    @Override
+    public double[] getP95Millis() {
+        return column(1);
+    }
+
+    @Override
+    public double[] getP99Millis() {
+        return column(2);
+    }
+
+    @Override
+    public double[] getMaxMillis() {
+        return column(3);
+    }
+
+    @Override
+    public synchronized double getFrameP99Millis() {
+        profiler.stats(FrameProfiler.Phase.FRAME, buf);
+        return buf[2] / 1e6;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return profiler.isEnabled();
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        profiler.setEnabled(enabled);
+    }
+
+    @Override
+    public synchronized String report() {
+        StringBuilder sb = new StringBuilder(String.format("%-14s %8s %8s %8s %8s%n",
+                "phase", "p50", "p95", "p99", "max"));
+        for (FrameProfiler.Phase p : FrameProfiler.phases()) {
+            profiler.stats(p, buf);
+            sb.append(String.format("%-14s %8.3f %8.3f %8.3f %8.3f%n",
+                    p.label, buf[0] / 1e6, buf[1] / 1e6, buf[2] / 1e6, buf[3] / 1e6));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public void reset() {
+        profiler.reset();
+    }
+
+    private synchronized double[] column(int col) {
+        FrameProfiler.Phase[] phases = FrameProfiler.phases();
+        double[] out = new double[phases.length];
+        for (int i = 0; i < phases.length; i++) {
+            profiler.stats(phases[i], buf);
+            out[i] = buf[col] / 1e6;
+        }
+        return out;
+    }
+}
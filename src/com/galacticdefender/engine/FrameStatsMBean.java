@@ -0,0 +1,30 @@
+package com.galacticdefender.engine;
+
+/**
+ * JMX view of the FrameProfiler. Array attributes are indexed in the same
+ * order as {@link #getPhases()}; all times are in milliseconds over the
+ * last FrameProfiler.SAMPLES frames.
+ */
+public interface FrameStatsMBean {
+    String[] getPhases();
+
+    double[] getP50Millis();
+
+    double[] getP95Millis();
+
+    double[] getP99Millis();
+
+    double[] getMaxMillis();
+
+    /** p99 of the whole frame, the usual stutter indicator. */
+    double getFrameP99Millis();
+
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    /** Human-readable table of every phase. */
+    String report();
+
+    void reset();
+}
@@ -2,12 +2,17 @@ package com.galacticdefender.engine;
 
 import com.galacticdefender.managers.*;
 import com.galacticdefender.objects.Player;
+import com.galacticdefender.objects.Sprites;
 import com.galacticdefender.ui.*;
 import com.galacticdefender.utils.Constants;
+import com.galacticdefender.utils.GameClock;
+import com.galacticdefender.utils.GameRandom;
 import com.galacticdefender.utils.World;
 
 import javax.swing.*;
 import java.awt.event.KeyEvent;
+import java.io.IOException;
+import java.nio.file.Path;
 
 /**
  * Top-level orchestrator of the Galactic Defender game.
@@ -17,10 +22,14 @@ import java.awt.event.KeyEvent;
  * - Drives the per-frame tick (called by GameLoop thread)
  * - Handles global input: start, pause, restart, quit
  * - Implements restart logic (reset all subsystems)
+ * - Publishes a WorldSnapshot after each step for the render thread
+ *   (RenderLoop), or renders inline with -Dgd.renderThread=false
+ * - Optionally runs headless (no window, no rendering) for bots and soak
+ *   tests – see HeadlessRunner
  *
  * Demonstrates: Encapsulation (each subsystem behind its own class),
  * Multithreading (GameLoop thread), Collections Framework
- * (CopyOnWriteArrayList in GamePanel).
+ * (EntityStore in GamePanel).
  */
 public class GameEngine {
 
@@ -32,46 +41,181 @@ public class GameEngine {
     private final SpawnManager spawn;
     private final SceneManager scene;
     private final Player player;
+    private final GameClock clock = new GameClock(); // simulation time
     private final GamePanel panel;
-    private final GameWindow window;
-    private final GameLoop loop;
+    private final RenderBackend display; // null when headless
+    private final GameLoop loop;     // null when headless
+    private final TripleBuffer<WorldSnapshot> snapshots; // null when headless
+    private final RenderLoop renderLoop; // null when headless or rendering inline
+    private InputRecorder recorder;      // null unless recording
+    private AssetPreloader preloader;    // null when headless
 
     public GameEngine() {
+        this(false);
+    }
+
+    /**
+     * @param headless true to build only the simulation: no window, no
+     *                 BufferStrategy and no loop thread. The caller drives
+     *                 {@link #tick(float)} itself (see HeadlessRunner).
+     */
+    public GameEngine(boolean headless) {
         // Initialise world geometry (platforms)
         World.init();
 
         // Build subsystems
         input = new InputHandler();
-        score = new ScoreManager();
+        score = new ScoreManager(headless ? null : openStats());
         level = new LevelManager();
         collision = new CollisionManager();
-        spawn = new SpawnManager();
+        spawn = new SpawnManager(clock);
         scene = new SceneManager();
-        player = new Player(60, 560, input);
+        player = new Player(60, 560, input, clock);
+
+        panel = new GamePanel(player, input, score, level, collision, spawn, scene, clock);
+        FrameStats.register(panel.getProfiler());
+        if (headless) {
+            display = null;
+            loop = null;
+            snapshots = null;
+            renderLoop = null;
+            return;
+        }
+
+        // Decode, scale and pack assets in the background; the start
+        // screen shows progress and ENTER waits until they are ready
+        Sprites.define();
+        preloader = AssetPreloader.start(AssetPreloader.defaultManifest());
+        input.setBlocked(KeyEvent.VK_ENTER, true); // until step() sees the preloader done
+
+        // Build the window (Java2D, or OpenGL with -Dgd.renderer=gl)
+        display = RenderBackend.create(panel, input);
+        snapshots = new TripleBuffer<>(WorldSnapshot::new);
+        renderLoop = Boolean.parseBoolean(System.getProperty("gd.renderThread", "true"))
+                ? new RenderLoop(this) : null;
 
-        // Build panel and window on the EDT
-        panel = new GamePanel(player, input, score, level, collision, spawn, scene);
-        window = new GameWindow(panel, input);
+        // -Dgd.record=FILE: record this session's input for replay
+        String record = System.getProperty("gd.record");
+        if (record != null)
+            startRecording(Path.of(record), Constants.FIXED_DT);
 
-        // Start game loop thread
+        // Start game loop thread (and render thread)
         loop = new GameLoop(this);
         loop.start();
+        if (renderLoop != null)
+            renderLoop.start();
     }
 
     /**
-     * Called by GameLoop every frame.
+     * One update followed by one render (variable-timestep loop, headless).
      * Handles global key events, updates state, renders.
      */
     public void tick(float dt) {
+        FrameProfiler profiler = panel.getProfiler();
+        profiler.begin(FrameProfiler.Phase.FRAME);
+        step(dt);
+        publishSnapshot();
+        if (renderLoop == null)
+            render(1f);
+        profiler.end(FrameProfiler.Phase.FRAME);
+    }
+
+    /** Advance the simulation by one step: global input, then world update. */
+    public void step(float dt) {
+        FrameProfiler profiler = panel.getProfiler();
+        profiler.begin(FrameProfiler.Phase.INPUT);
+        if (preloader != null && preloader.isDone())
+            input.setBlocked(KeyEvent.VK_ENTER, false);
+        input.poll(); // one input snapshot for the whole step
+        if (preloader != null && scene.isStart())
+            panel.setLoadProgress(preloader.isDone() ? 1f : preloader.progress());
         handleGlobalInput();
+        profiler.end(FrameProfiler.Phase.INPUT);
+
         panel.update(dt);
-        window.renderFrame(panel);
+    }
+
+    /** Capture the world into the snapshot back buffer and hand it over. */
+    public void publishSnapshot() {
+        if (snapshots == null)
+            return;
+        panel.capture(snapshots.back());
+        snapshots.publish();
+    }
+
+    /**
+     * Draw the latest snapshot inline. alpha in [0, 1] is how far the frame
+     * lies between the previous and the current simulation step. Only used
+     * when there is no render thread; no-op when headless.
+     */
+    public void render(float alpha) {
+        if (display == null)
+            return;
+        WorldSnapshot s = snapshots.acquire();
+        if (s.publishedNanos != 0)
+            display.renderFrame(panel, s, alpha);
+    }
+
+    /**
+     * Render-thread entry: draw the newest snapshot, interpolated by the
+     * time elapsed since it was published.
+     */
+    void renderAt(long nowNanos) {
+        WorldSnapshot s = snapshots.acquire();
+        if (s.publishedNanos == 0)
+            return;
+        float alpha = (nowNanos - s.publishedNanos) / (Constants.FIXED_DT * 1_000_000_000f);
+        display.renderFrame(panel, s, Math.max(0f, Math.min(1f, alpha)));
+    }
+
+    /** True when frames are drawn by RenderLoop rather than the loop thread. */
+    public boolean hasRenderThread() {
+        return renderLoop != null;
+    }
+
+    /** True once startRecording has succeeded. */
+    public boolean isRecording() {
+        return recorder != null;
+    }
+
+    /**
+     * Record every step's input, the RNG seed and dt to file (see
+     * InputRecorder). Call before the first step; the RNG is restarted from
+     * its seed so the recording covers the whole sequence. The file is
+     * finished when the JVM exits.
+     */
+    public void startRecording(Path file, float dt) {
+        try {
+            GameRandom.reseed(GameRandom.seed());
+            recorder = new InputRecorder(file, GameRandom.seed(), dt);
+            input.setRecorder(recorder);
+            Runtime.getRuntime().addShutdownHook(new Thread(recorder::close, "InputRecorder-Close"));
+        } catch (IOException e) {
+            System.err.println("[GameEngine] Cannot record to " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Open the stats log (-Dgd.stats=FILE overrides the default) and close
+     * it at exit; null, and the game runs without persistence, if it fails.
+     */
+    private static StatsStore openStats() {
+        Path file = Path.of(System.getProperty("gd.stats", Constants.STATS_FILE));
+        try {
+            StatsStore stats = StatsStore.open(file);
+            Runtime.getRuntime().addShutdownHook(new Thread(stats::close, "StatsStore-Close"));
+            return stats;
+        } catch (IOException e) {
+            System.err.println("[GameEngine] Cannot open " + file + ": " + e.getMessage());
+            return null;
+        }
     }
 
     // ── Input handling ─────────────────────────────────────────
 
     private void handleGlobalInput() {
-        // Start screen: ENTER to begin
+        // Start screen: ENTER to begin (blocked in the input itself until
+        // every asset is loaded, so a recording never holds an ignored ENTER)
         if (scene.isStart() && input.isJustPressed(KeyEvent.VK_ENTER)) {
             startGame();
         }
@@ -79,7 +223,7 @@ public class GameEngine {
         // ESC: quit to desktop from start or game-over; also quits if paused
         if (input.isJustPressed(KeyEvent.VK_ESCAPE)) {
             if (scene.isStart() || scene.isGameOver() || scene.isPaused()) {
-                score.saveHighScore();
+                score.finishRun(level.getLevel());
                 System.exit(0);
             }
         }
@@ -90,6 +234,11 @@ public class GameEngine {
             scene.togglePause();
         }
 
+        // F3: frame-timing overlay
+        if (input.isJustPressed(KeyEvent.VK_F3)) {
+            panel.toggleDebugOverlay();
+        }
+
         // R: restart after game over
         if (input.isJustPressed(KeyEvent.VK_R) && scene.isGameOver()) {
             restartGame();
@@ -109,10 +258,93 @@ public class GameEngine {
         startGame(); // constructor-chaining style reuse
     }
 
+    // ── Accessors (headless drivers, benchmarks) ───────────────
+
+    public InputHandler getInput() {
+        return input;
+    }
+
+    public SceneManager getScene() {
+        return scene;
+    }
+
+    public ScoreManager getScore() {
+        return score;
+    }
+
+    public LevelManager getLevel() {
+        return level;
+    }
+
+    public GameClock getClock() {
+        return clock;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public GamePanel getPanel() {
+        return panel;
+    }
+
     // ── Entry point ───────────────────────────────────────────
 
+    /**
+     * Usage: {@code GameEngine [--headless] [--ticks=N] [--dt=SECONDS]
+     * [--record=FILE] [--replay=FILE]}.
+     * Headless mode can also be selected with {@code -Dgd.headless=true},
+     * recording with {@code -Dgd.record=FILE}. A replay always runs
+     * headless, as fast as possible, with the recorded seed and dt.
+     */
     public static void main(String[] args) {
+        boolean headless = Boolean.getBoolean("gd.headless");
+        long ticks = HeadlessRunner.DEFAULT_TICKS;
+        float dt = 1f / Constants.FPS;
+        String record = null, replay = null;
+        for (String a : args) {
+            if (a.equals("--headless"))
+                headless = true;
+            else if (a.startsWith("--ticks="))
+                ticks = Long.parseLong(a.substring("--ticks=".length()));
+            else if (a.startsWith("--dt="))
+                dt = Float.parseFloat(a.substring("--dt=".length()));
+            else if (a.startsWith("--record="))
+                record = a.substring("--record=".length());
+            else if (a.startsWith("--replay="))
+                replay = a.substring("--replay=".length());
+        }
+
+        if (replay != null) {
+            System.setProperty("java.awt.headless", "true");
+            InputReplay script;
+            try {
+                script = InputReplay.open(Path.of(replay));
+            } catch (IOException e) {
+                System.err.println("[GameEngine] Cannot replay " + replay + ": " + e.getMessage());
+                System.exit(1);
+                return;
+            }
+            GameRandom.reseed(script.getSeed());
+            new HeadlessRunner(new GameEngine(true), script.getDt())
+                    .setScript(script).run(script.getTotalTicks());
+            return;
+        }
+
+        if (headless) {
+            System.setProperty("java.awt.headless", "true");
+            GameEngine engine = new GameEngine(true);
+            if (record == null)
+                record = System.getProperty("gd.record");
+            if (record != null)
+                engine.startRecording(Path.of(record), dt);
+            new HeadlessRunner(engine, dt).run(ticks);
+            return;
+        }
+
         // Ensure Swing components are created on the Event Dispatch Thread
+        if (record != null)
+            System.setProperty("gd.record", record);
         SwingUtilities.invokeLater(GameEngine::new);
     }
 }
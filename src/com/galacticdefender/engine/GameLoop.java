@@ -3,8 +3,20 @@ package com.galacticdefender.engine;
 import com.galacticdefender.utils.Constants;
 
 /**
- * Fixed-timestep game loop running on its own thread.
- * Targets 60 FPS. Sleeps to compensate for fast frames.
+ * Game loop running on its own thread. Targets 60 FPS.
+ *
+ * Two modes (-Dgd.loop=fixed|variable, default fixed):
+ * - fixed: an accumulator feeds the simulation whole FIXED_DT steps, at most
+ *   MAX_CATCH_UP_STEPS per frame, and the frame is rendered interpolated
+ *   between the previous and current step. Simulation results depend only
+ *   on the step count, not on how long rendering takes.
+ * - variable: the original one-update-per-render loop with dt capped at 0.05.
+ *   Not used while recording input (-Dgd.record), since a replay steps by
+ *   the fixed dt stored in the recording.
+ *
+ * Frames are paced with a hybrid wait: sleep while the deadline is far away,
+ * then yield and finally spin for the last stretch, because Thread.sleep is
+ * only millisecond-accurate on most platforms.
  *
  * Demonstrates: Multithreading (implements Runnable, runs as a Thread).
  */
@@ -15,9 +27,22 @@ public class GameLoop implements Runnable {
     private Thread thread;
 
     private static final long TARGET_NS = 1_000_000_000L / Constants.FPS;
+    private static final long STEP_NS = (long) (Constants.FIXED_DT * 1_000_000_000L);
+
+    // Hybrid pacing thresholds
+    private static final long SLEEP_MARGIN_NS = 2_000_000L; // stop sleeping 2 ms early
+    private static final long SPIN_NS = 200_000L; // busy-spin the last 0.2 ms
+
+    private final boolean fixedStep;
+    private final int maxCatchUp = Integer.getInteger("gd.maxCatchUp", Constants.MAX_CATCH_UP_STEPS);
 
     public GameLoop(GameEngine engine) {
         this.engine = engine;
+        boolean variable = "variable".equalsIgnoreCase(System.getProperty("gd.loop"));
+        // A recording replays at the FIXED_DT in its header; variable steps would diverge
+        if (variable && engine.isRecording())
+            System.err.println("[GameLoop] Recording input: ignoring gd.loop=variable, using the fixed-step loop");
+        fixedStep = !variable || engine.isRecording();
     }
 
     public synchronized void start() {
@@ -35,6 +60,50 @@ public class GameLoop implements Runnable {
 
     @Override
     public void run() {
+        if (fixedStep)
+            runFixed();
+        else
+            runVariable();
+    }
+
+    private void runFixed() {
+        FrameProfiler profiler = engine.getPanel().getProfiler();
+        long previous = System.nanoTime();
+        long nextFrame = previous + TARGET_NS;
+        long accumulator = 0;
+
+        while (running) {
+            long now = System.nanoTime();
+            accumulator += now - previous;
+            previous = now;
+
+            profiler.begin(FrameProfiler.Phase.FRAME);
+            int steps = 0;
+            while (accumulator >= STEP_NS && steps < maxCatchUp) {
+                engine.step(Constants.FIXED_DT);
+                accumulator -= STEP_NS;
+                steps++;
+            }
+            // Too far behind (breakpoint, window drag): drop the backlog
+            // instead of spiralling, keeping the partial step for alpha
+            if (accumulator >= STEP_NS)
+                accumulator %= STEP_NS;
+
+            if (steps > 0)
+                engine.publishSnapshot();
+            if (!engine.hasRenderThread())
+                engine.render((float) accumulator / STEP_NS);
+            profiler.end(FrameProfiler.Phase.FRAME);
+
+            waitUntil(nextFrame);
+            nextFrame += TARGET_NS;
+            long late = System.nanoTime() - nextFrame;
+            if (late > TARGET_NS) // missed more than a frame: resync
+                nextFrame += (late / TARGET_NS) * TARGET_NS;
+        }
+    }
+
+    private void runVariable() {
         long lastTime = System.nanoTime();
 
         while (running) {
@@ -49,14 +118,27 @@ public class GameLoop implements Runnable {
 
             engine.tick(dt);
 
-            // Sleep to hit target frame rate
-            long sleep = TARGET_NS - (System.nanoTime() - now);
-            if (sleep > 0) {
+            waitUntil(now + TARGET_NS);
+        }
+    }
+
+    /** Hybrid sleep / yield / spin wait until System.nanoTime() reaches deadline. */
+    static void waitUntil(long deadline) {
+        while (true) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0)
+                return;
+            if (remaining > SLEEP_MARGIN_NS) {
                 try {
-                    Thread.sleep(sleep / 1_000_000L, (int) (sleep % 1_000_000L));
+                    Thread.sleep((remaining - SLEEP_MARGIN_NS) / 1_000_000L);
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
+                    return;
                 }
+            } else if (remaining > SPIN_NS) {
+                Thread.yield();
+            } else {
+                Thread.onSpinWait();
             }
         }
     }
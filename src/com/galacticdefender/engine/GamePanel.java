@@ -4,29 +4,36 @@ import com.galacticdefender.managers.*;
 import com.galacticdefender.objects.*;
 import com.galacticdefender.ui.*;
 import com.galacticdefender.utils.Constants;
-import com.galacticdefender.utils.World;
+import com.galacticdefender.utils.GameClock;
 
 import java.awt.*;
-import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.swing.JPanel;
 
 /**
  * Main rendering and update panel.
- * Uses Swing's double-buffering via BufferStrategy on the parent window.
+ * Drawn by a RenderBackend (Java2D window or OpenGL) through a Renderer.
  * Aggregates all game-world state and drives each frame's update + render.
  *
+ * Rendering never reads live state: the update thread captures a
+ * WorldSnapshot after each step and renderFrame draws from that.
+ *
  * Demonstrates: Multithreading (game loop calls renderFrame from a thread),
- * Polymorphism (iterating ArrayList<GameObject>), Collections Framework.
+ * Polymorphism (iterating the EntityStore), Collections Framework.
  */
 public class GamePanel extends JPanel {
 
-    // ── All active game objects (thread-safe for concurrent modification) ──
-    private final CopyOnWriteArrayList<GameObject> objects = new CopyOnWriteArrayList<>();
+    // ── All game objects (deferred adds/removes, flushed once per tick) ──
+    private final EntityStore objects = new EntityStore();
+    private final BulletSystem bullets = new BulletSystem();
+    private final ParallelUpdate parallel = new ParallelUpdate();
+
+    // ── Per-phase frame timers (F3 overlay, JMX) ───────────────
+    private final FrameProfiler profiler = new FrameProfiler();
+    private boolean showDebug = false;
 
     // ── Shared subsystems ──────────────────────────────────────
     private final Player player;
@@ -37,20 +44,26 @@ public class GamePanel extends JPanel {
     private final SpawnManager spawn;
     private final SceneManager scene;
 
+    // ── Time: the world's clock runs only while PLAYING, the UI's always ──
+    private final GameClock clock;
+    private final GameClock uiClock = new GameClock();
+
     // ── UI screens ────────────────────────────────────────────
     private final StartScreen startScreen = new StartScreen();
     private final GameScreen gameScreen = new GameScreen();
     private final GameOverScreen gameOverScreen = new GameOverScreen();
     private final PauseScreen pauseScreen = new PauseScreen();
+    private final DebugOverlay debugOverlay = new DebugOverlay();
+    private final RenderQueue renderQueue = new RenderQueue();
 
-    // ── Background ────────────────────────────────────────────
-    private BufferedImage background;
-    private float parallaxOffset = 0f;
+    // ── Background + platforms (cached offscreen) ─────────────
+    private final StaticLayer staticLayer = new StaticLayer();
+    private float parallaxOffset = 0f, prevParallaxOffset = 0f;
 
     public GamePanel(Player player, InputHandler input,
             ScoreManager score, LevelManager level,
             CollisionManager collision, SpawnManager spawn,
-            SceneManager scene) {
+            SceneManager scene, GameClock clock) {
         this.player = player;
         this.input = input;
         this.score = score;
@@ -58,128 +71,219 @@ public class GamePanel extends JPanel {
         this.collision = collision;
         this.spawn = spawn;
         this.scene = scene;
+        this.clock = clock;
 
         setPreferredSize(new Dimension(Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT));
         setBackground(Color.BLACK);
         setDoubleBuffered(true);
-
-        background = ResourceLoader.loadImage(Constants.IMG_BG);
-        if (background != null)
-            background = ResourceLoader.scaleImage(background,
-                    Constants.WINDOW_WIDTH + 60, Constants.WINDOW_HEIGHT);
     }
 
     // ── Update ────────────────────────────────────────────────
 
     public void update(float dt) {
+        uiClock.advance(dt);
         switch (scene.getState()) {
-            case START -> startScreen.update(dt);
-            case PLAYING -> updatePlaying(dt);
-            case GAME_OVER -> gameOverScreen.update(dt);
+            case START -> startScreen.update(dt, uiClock);
+            case PLAYING -> {
+                clock.advance(dt);
+                updatePlaying(dt);
+            }
+            case GAME_OVER -> gameOverScreen.update(dt, uiClock);
             case PAUSED -> {
                 /* frozen */ }
         }
     }
 
     private void updatePlaying(float dt) {
+        // Start-of-step positions for render interpolation
+        prevParallaxOffset = parallaxOffset;
+        player.savePrevious();
+        for (int i = 0, n = objects.size(); i < n; i++)
+            objects.get(i).savePrevious();
+
         // Parallax scroll
         parallaxOffset = (parallaxOffset + 15 * dt) % 60f;
 
         // Player
+        profiler.begin(FrameProfiler.Phase.PLAYER);
         player.update(dt);
 
         // Collect player bullets
-        objects.addAll(player.consumePendingBullets());
-
-        // Update all objects polymorphically; enemies need player reference
-        for (GameObject obj : objects) {
-            if (!obj.isActive())
-                continue;
-            if (obj instanceof Enemy)
-                ((Enemy) obj).update(dt, player);
-            else
-                obj.update(dt);
-        }
+        int inFlight = bullets.size();
+        player.drainPendingBullets(bullets);
+        score.addShots(bullets.size() - inFlight);
+        profiler.end(FrameProfiler.Phase.PLAYER);
+
+        // Update all objects polymorphically; enemies need player reference.
+        // Split across worker threads once there are enough of them
+        profiler.begin(FrameProfiler.Phase.OBJECTS);
+        parallel.updateObjects(objects, player, dt);
 
-        // Collect enemy bullets
-        List<Bullet> newBullets = new ArrayList<>();
-        for (GameObject obj : objects) {
+        // Move bullets in one tight loop and cull offscreen ones
+        parallel.updateBullets(bullets, dt);
+
+        // Collect enemy bullets, in list order whichever thread fired them
+        for (int i = 0, n = objects.size(); i < n; i++) {
+            GameObject obj = objects.get(i);
             if (obj instanceof Enemy && obj.isActive())
-                newBullets.addAll(((Enemy) obj).consumePendingBullets());
+                ((Enemy) obj).drainPendingBullets(bullets);
         }
-        objects.addAll(newBullets);
+        profiler.end(FrameProfiler.Phase.OBJECTS);
 
         // Collision detection
-        List<GameObject> spawned = collision.checkAll(objects, player, score);
-        objects.addAll(spawned);
+        profiler.begin(FrameProfiler.Phase.COLLISION);
+        objects.addAll(collision.checkAll(objects.asList(), bullets, player, score));
+        profiler.end(FrameProfiler.Phase.COLLISION);
 
         // Spawn new wave / power-ups
-        objects.addAll(spawn.update(dt, level.getLevel()));
+        profiler.begin(FrameProfiler.Phase.SPAWN);
+        objects.addAll(spawn.update(level.getLevel()));
 
         // Level progression (lambda on stream – Java 8 feature)
         if (level.checkLevelUp(score.getScore())) {
             System.out.println("[Level] Advanced to level " + level.getLevel());
         }
+        score.checkpoint(level.getLevel(), clock.nanos());
+        profiler.end(FrameProfiler.Phase.SPAWN);
 
-        // Remove inactive objects
-        objects.removeIf(obj -> !obj.isActive());
+        // Sweep inactive objects (recycling pooled ones) and add this
+        // tick's explosions and spawns in one pass
+        profiler.begin(FrameProfiler.Phase.CLEANUP);
+        objects.flush();
+        profiler.end(FrameProfiler.Phase.CLEANUP);
 
         // Check game-over
         if (player.isDead()) {
-            score.saveHighScore();
+            score.finishRun(level.getLevel());
             scene.setState(SceneManager.Scene.GAME_OVER);
             gameOverScreen.reset();
         }
     }
 
-    // ── Render ────────────────────────────────────────────────
+    // ── Snapshot (update thread) ──────────────────────────────
+
+    /**
+     * Capture everything renderFrame needs into the given snapshot slot.
+     * Called on the update thread after a step; the snapshot is then only
+     * read by the render thread.
+     */
+    public void capture(WorldSnapshot s) {
+        s.scene = scene.getState();
+        s.parallaxOffset = parallaxOffset;
+        s.prevParallaxOffset = prevParallaxOffset;
 
-    public void renderFrame(Graphics2D g) {
-        // Background
-        if (background != null)
-            g.drawImage(background, -(int) parallaxOffset, 0, null);
-        else {
-            g.setColor(new Color(18, 20, 30));
-            g.fillRect(0, 0, Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT);
+        List<GameObject> view = objects.getRenderView();
+        int n = view.size();
+        s.beginObjects(n);
+        for (int i = 0; i < n; i++) {
+            GameObject obj = view.get(i);
+            if (obj.isActive())
+                s.addObject(obj);
         }
+        s.bullets.copyRenderState(bullets);
+        s.player = (Player) player.renderCopy(s.slot);
 
-        switch (scene.getState()) {
-            case START -> startScreen.render(g);
+        s.score = score.getScore();
+        s.highScore = score.getHighScore();
+        s.level = level.getLevel();
+        s.bossLevel = level.isBossLevel();
+        s.showDebug = showDebug;
+        s.startScreen.copyFrom(startScreen);
+        s.gameOverScreen.copyFrom(gameOverScreen);
+        s.publishedNanos = System.nanoTime();
+    }
+
+    // ── Render (render thread) ────────────────────────────────
+
+    /**
+     * Draw a snapshot alpha of the way between its previous and current
+     * simulation step. Outside PLAYING nothing moves, so alpha is ignored.
+     * Reads only the snapshot and immutable assets, never live game state.
+     */
+    public void renderFrame(Renderer r, WorldSnapshot s, float alpha) {
+        SceneManager.Scene state = s.scene;
+        if (state != SceneManager.Scene.PLAYING)
+            alpha = 1f;
+
+        // Background + world
+        profiler.begin(FrameProfiler.Phase.WORLD_RENDER);
+        // The offset wraps at 60px; don't interpolate across the wrap
+        float parallax = s.parallaxOffset < s.prevParallaxOffset ? s.parallaxOffset
+                : s.prevParallaxOffset + (s.parallaxOffset - s.prevParallaxOffset) * alpha;
+        staticLayer.drawBackground(r, (int) parallax);
+        if (state != SceneManager.Scene.START)
+            renderWorld(r, s, alpha);
+        profiler.end(FrameProfiler.Phase.WORLD_RENDER);
+
+        // HUD and overlay screens
+        profiler.begin(FrameProfiler.Phase.HUD_RENDER);
+        switch (state) {
+            case START -> s.startScreen.render(r);
             case PLAYING, PAUSED -> {
-                renderWorld(g);
-                gameScreen.render(g, player, score, level);
-                if (scene.isPaused())
-                    pauseScreen.render(g);
+                gameScreen.render(r, s.player, s.score, s.highScore, s.level, s.bossLevel);
+                if (state == SceneManager.Scene.PAUSED)
+                    pauseScreen.render(r);
             }
             case GAME_OVER -> {
-                renderWorld(g);
-                gameScreen.render(g, player, score, level);
-                gameOverScreen.render(g, score.getScore(), score.getHighScore());
+                gameScreen.render(r, s.player, s.score, s.highScore, s.level, s.bossLevel);
+                s.gameOverScreen.render(r, s.score, s.highScore);
             }
         }
+        profiler.end(FrameProfiler.Phase.HUD_RENDER);
+
+        if (s.showDebug)
+            debugOverlay.render(r, profiler);
     }
 
-    private void renderWorld(Graphics2D g) {
-        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        // Platforms
-        for (Platform p : World.platforms)
-            p.render(g);
-        // All game objects (polymorphic render)
-        for (GameObject obj : objects) {
-            if (obj.isActive())
-                obj.render(g);
-        }
+    private void renderWorld(Renderer r, WorldSnapshot s, float alpha) {
+        // Platforms: one blit of the cached layer (repainted when World changes)
+        staticLayer.drawPlatforms(r);
+        // Visible objects (polymorphic render), batched by layer and material
+        renderQueue.build(s.objects, s.objectCount, alpha);
+        for (int i = 0, n = renderQueue.size(); i < n; i++)
+            renderInterpolated(r, renderQueue.get(i), alpha);
+        s.bullets.render(r, alpha);
         // Player
-        player.render(g);
+        renderInterpolated(r, s.player, alpha);
+    }
+
+    /** Render obj shifted from its current to its interpolated position. */
+    private static void renderInterpolated(Renderer r, GameObject obj, float alpha) {
+        double ox = obj.lerpX(alpha) - obj.getX(), oy = obj.lerpY(alpha) - obj.getY();
+        if (ox == 0 && oy == 0) {
+            obj.render(r);
+            return;
+        }
+        r.translate(ox, oy);
+        obj.render(r);
+        r.translate(-ox, -oy);
     }
 
     // ── Accessors for GameEngine ──────────────────────────────
 
+    /** Asset loading progress for the start screen, 0..1. */
+    public void setLoadProgress(float progress) {
+        startScreen.setLoadProgress(progress);
+    }
+
     public void clearObjects() {
         objects.clear();
+        bullets.clear();
     }
 
-    public CopyOnWriteArrayList<GameObject> getObjects() {
+    public EntityStore getObjects() {
         return objects;
     }
+
+    public BulletSystem getBullets() {
+        return bullets;
+    }
+
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
+    public void toggleDebugOverlay() {
+        showDebug = !showDebug;
+    }
 }
@@ -8,10 +8,12 @@ import java.awt.*;
 /**
  * Application window (JFrame wrapper).
  * Sets up the frame, adds the GamePanel, and configures rendering hints.
+ * The default RenderBackend: frames are drawn with a Java2DRenderer.
  */
-public class GameWindow extends JFrame {
+public class GameWindow extends JFrame implements RenderBackend {
 
     private final GamePanel panel;
+    private final Java2DRenderer renderer = new Java2DRenderer();
 
     public GameWindow(GamePanel panel, InputHandler input) {
         super("Galactic Defender");
@@ -30,10 +32,12 @@ public class GameWindow extends JFrame {
     }
 
     /**
-     * Render one frame via the BufferStrategy (active rendering with
-     * double-buffering).
+     * Render one snapshot via the BufferStrategy (active rendering with
+     * double-buffering), interpolated alpha of the way from the previous
+     * to the current simulation step.
      */
-    public void renderFrame(GamePanel gamePanel) {
+    @Override
+    public void renderFrame(GamePanel gamePanel, WorldSnapshot snapshot, float alpha) {
         var bs = getBufferStrategy();
         if (bs == null) {
             createBufferStrategy(2);
@@ -44,10 +48,13 @@ public class GameWindow extends JFrame {
         g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
 
-        gamePanel.renderFrame(g);
+        gamePanel.renderFrame(renderer.begin(g), snapshot, alpha);
 
+        FrameProfiler profiler = gamePanel.getProfiler();
+        profiler.begin(FrameProfiler.Phase.PRESENT);
         g.dispose();
         bs.show();
         Toolkit.getDefaultToolkit().sync();
+        profiler.end(FrameProfiler.Phase.PRESENT);
     }
 }
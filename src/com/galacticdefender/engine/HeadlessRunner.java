@@ -0,0 +1,91 @@
+package com.galacticdefender.engine;
+
+import com.galacticdefender.managers.SceneManager;
+
+import java.awt.event.KeyEvent;
+
+/**
+ * Drives a headless GameEngine with a fixed timestep as fast as the CPU
+ * allows. Input is injected programmatically through an InputScript
+ * instead of AWT key events, and no Graphics2D work is done at all.
+ * Reports ticks per second when the run ends.
+ */
+public class HeadlessRunner {
+
+    /** Ten simulated minutes at 60 ticks per second. */
+    public static final long DEFAULT_TICKS = 36_000L;
+
+    /** Feeds input for one tick; called before the engine ticks. */
+    public interface InputScript {
+        void apply(long tick, InputHandler input, GameEngine engine);
+    }
+
+    private final GameEngine engine;
+    private final float dt;
+    private InputScript script = new AutoPilot();
+
+    public HeadlessRunner(GameEngine engine, float dt) {
+        this.engine = engine;
+        this.dt = dt;
+    }
+
+    public HeadlessRunner setScript(InputScript script) {
+        this.script = script;
+        return this;
+    }
+
+    /**
+     * Run the given number of ticks and print throughput.
+     *
+     * @return Measured ticks per second of wall-clock time.
+     */
+    public double run(long ticks) {
+        InputHandler input = engine.getInput();
+        long start = System.nanoTime();
+        for (long t = 0; t < ticks; t++) {
+            script.apply(t, input, engine);
+            engine.tick(dt);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        double seconds = elapsed / 1_000_000_000.0;
+        double tps = ticks / Math.max(seconds, 1e-9);
+        System.out.printf("[Headless] %d ticks in %.2f s  (%.0f ticks/sec, %.1fx real time)%n",
+                ticks, seconds, tps, tps * dt);
+        System.out.printf("[Headless] final score %d, level %d, scene %s%n",
+                engine.getScore().getScore(), engine.getLevel().getLevel(),
+                engine.getScene().getState());
+        return tps;
+    }
+
+    /**
+     * Default bot: starts the game, keeps the trigger held, strafes left and
+     * right, jumps periodically and restarts after a game over.
+     */
+    public static class AutoPilot implements InputScript {
+        @Override
+        public void apply(long tick, InputHandler input, GameEngine engine) {
+            SceneManager scene = engine.getScene();
+            if (scene.isStart()) {
+                tap(input, KeyEvent.VK_ENTER);
+                return;
+            }
+            if (scene.isGameOver()) {
+                tap(input, KeyEvent.VK_R);
+                return;
+            }
+
+            input.press(KeyEvent.VK_SPACE);
+            boolean left = (tick / 90) % 2 == 0;
+            input.release(left ? KeyEvent.VK_RIGHT : KeyEvent.VK_LEFT);
+            input.press(left ? KeyEvent.VK_LEFT : KeyEvent.VK_RIGHT);
+            if (tick % 45 == 0)
+                tap(input, KeyEvent.VK_UP);
+        }
+
+        private static void tap(InputHandler input, int key) {
+            input.press(key);
+            input.release(key);
+        }
+    }
+}
@@ -2,41 +2,136 @@ package com.galacticdefender.engine;
 
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Arrays;
 
 /**
  * KeyListener that tracks which keys are currently held and which were
- * just pressed this frame. Demonstrates encapsulation of input state.
+ * just pressed this tick. Demonstrates encapsulation of input state.
+ *
+ * Key events never touch the state the game reads. The producer (EDT,
+ * GLFW callback or headless driver – one thread at a time) appends them to
+ * a lock-free single-producer/single-consumer ring; the update thread
+ * drains the ring once per step in {@link #poll()} into two bitsets. Every
+ * read during that step sees the same snapshot, costs one array lookup and
+ * allocates nothing.
  */
 public class InputHandler extends KeyAdapter {
 
-    private final Set<Integer> held = Collections.synchronizedSet(new HashSet<>());
-    private final Set<Integer> justPressed = Collections.synchronizedSet(new HashSet<>());
+    /** Key codes at or above this are ignored (all VK_* codes the game uses are far below). */
+    public static final int MAX_KEY = 512;
+
+    private static final int CAPACITY = 1024; // power of two
+    private static final int MASK = CAPACITY - 1;
+
+    // ── Event ring: written by the producer, read by poll() ───
+    private final int[] ring = new int[CAPACITY]; // keyCode << 1 | (down ? 1 : 0)
+    private volatile long head; // next slot to read; written by the consumer
+    private volatile long tail; // next slot to write; written by the producer
+
+    // ── Per-tick snapshot: owned by the update thread ─────────
+    private final long[] held = new long[MAX_KEY / 64];
+    private final long[] justPressed = new long[MAX_KEY / 64];
+    private final long[] blocked = new long[MAX_KEY / 64];
+
+    private InputRecorder recorder; // null unless recording
 
     @Override
     public void keyPressed(KeyEvent e) {
-        if (!held.contains(e.getKeyCode()))
-            justPressed.add(e.getKeyCode());
-        held.add(e.getKeyCode());
+        press(e.getKeyCode());
     }
 
     @Override
     public void keyReleased(KeyEvent e) {
-        held.remove(e.getKeyCode());
+        release(e.getKeyCode());
+    }
+
+    /**
+     * Programmatic key-down, equivalent to a KeyEvent.KEY_PRESSED for the
+     * given KeyEvent.VK_* code. Used by headless drivers and bots. Takes
+     * effect at the next {@link #poll()}.
+     */
+    public void press(int keyCode) {
+        offer(keyCode, true);
+    }
+
+    /** Programmatic key-up for the given KeyEvent.VK_* code. */
+    public void release(int keyCode) {
+        offer(keyCode, false);
+    }
+
+    private void offer(int keyCode, boolean down) {
+        if (keyCode < 0 || keyCode >= MAX_KEY)
+            return;
+        long t = tail;
+        if (t - head == CAPACITY)
+            return; // game thread stalled for ~1000 events: drop rather than block the EDT
+        ring[(int) t & MASK] = keyCode << 1 | (down ? 1 : 0);
+        tail = t + 1; // volatile write publishes the slot
+    }
+
+    /**
+     * Apply every queued key event to the snapshot. Called by the update
+     * thread once at the start of each step; justPressed is reset first, so
+     * it reports presses since the previous poll only.
+     */
+    public void poll() {
+        Arrays.fill(justPressed, 0L);
+        long h = head, t = tail;
+        for (; h < t; h++) {
+            int e = ring[(int) h & MASK];
+            int key = e >>> 1;
+            long bit = 1L << key;
+            int word = key >>> 6;
+            boolean down = (e & 1) != 0;
+            if ((blocked[word] & bit) != 0)
+                continue; // never seen, so never recorded
+            // Auto-repeat sends KEY_PRESSED again while held: not a new press
+            if (down == ((held[word] & bit) != 0))
+                continue;
+            if (down) {
+                justPressed[word] |= bit;
+                held[word] |= bit;
+            } else {
+                held[word] &= ~bit;
+            }
+            if (recorder != null)
+                recorder.event(e); // only transitions: repeats change nothing
+        }
+        head = h;
+        if (recorder != null)
+            recorder.endStep();
+    }
+
+    /**
+     * Drop the key's events in poll() (before they reach the snapshot or the
+     * recorder) until unblocked. For gates that depend on something a replay
+     * cannot reproduce, like ENTER waiting for assets: the recording then
+     * holds only the presses the game actually acted on.
+     */
+    public void setBlocked(int keyCode, boolean block) {
+        if (keyCode < 0 || keyCode >= MAX_KEY)
+            return;
+        if (block)
+            blocked[keyCode >>> 6] |= 1L << keyCode;
+        else
+            blocked[keyCode >>> 6] &= ~(1L << keyCode);
+    }
+
+    /** Report every event drained from now on to recorder; null stops. */
+    public void setRecorder(InputRecorder recorder) {
+        this.recorder = recorder;
     }
 
-    /** True while the key is held down. */
+    /** True while the key is held down (as of the last poll). */
     public boolean isHeld(int keyCode) {
-        return held.contains(keyCode);
+        return keyCode >= 0 && keyCode < MAX_KEY && (held[keyCode >>> 6] & 1L << keyCode) != 0;
     }
 
     /**
-     * True only on the first frame the key was pressed; clears the flag
-     * automatically.
+     * True if the key went down since the previous poll. Non-destructive:
+     * every caller in the same step gets the same answer.
      */
     public boolean isJustPressed(int keyCode) {
-        return justPressed.remove(keyCode);
+        return keyCode >= 0 && keyCode < MAX_KEY && (justPressed[keyCode >>> 6] & 1L << keyCode) != 0;
     }
 }
@@ -0,0 +1,125 @@
+package com.galacticdefender.engine;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streams every key transition the simulation consumes to a compact binary
+ * file, so the run can be replayed exactly (InputReplay).
+ *
+ * InputHandler.poll() reports each transition it applies and then the
+ * end of the step, so events are recorded in the order and at the step the
+ * game saw them, whichever thread produced them. Together with the RNG
+ * seed and the fixed dt that is everything a replay needs.
+ *
+ * Format (big-endian header, then unsigned LEB128 varints):
+ * <pre>
+ *   int   MAGIC 'GDRP'
+ *   byte  VERSION
+ *   long  seed
+ *   float dt
+ *   records: varint ticksSincePreviousRecord, varint n, n × varint (keyCode << 1 | down)
+ *   end:     varint ticksSincePreviousRecord, varint 0
+ * </pre>
+ * Only transitions are reported (a repeated press of a held key changes
+ * nothing), so steps without a change cost nothing and a step with one
+ * typically three or four bytes.
+ */
+public class InputRecorder implements AutoCloseable {
+
+    static final int MAGIC = 0x47445250; // "GDRP"
+    static final byte VERSION = 1;
+
+    private static final int BUFFER = 64 * 1024;
+    private static final int MAX_EVENTS = 256; // per step; the ring holds at most 1024
+
+    private final FileChannel channel;
+    private final ByteBuffer out = ByteBuffer.allocateDirect(BUFFER);
+    private final int[] pending = new int[MAX_EVENTS];
+    private int pendingCount;
+    private long tick, lastRecordTick;
+    private boolean closed;
+
+    public InputRecorder(Path file, long seed, float dt) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        out.putInt(MAGIC).put(VERSION).putLong(seed).putFloat(dt);
+    }
+
+    /** An event drained during the current step (called by InputHandler.poll). */
+    synchronized void event(int encoded) {
+        if (pendingCount < MAX_EVENTS)
+            pending[pendingCount++] = encoded;
+    }
+
+    /** The current step's input is complete (called by InputHandler.poll). */
+    synchronized void endStep() {
+        if (closed)
+            return;
+        if (pendingCount > 0) {
+            if (!ensure(10 + 10 + pendingCount * 5))
+                return;
+            putVarint(tick - lastRecordTick);
+            putVarint(pendingCount);
+            for (int i = 0; i < pendingCount; i++)
+                putVarint(pending[i]);
+            lastRecordTick = tick;
+            pendingCount = 0;
+        }
+        tick++;
+    }
+
+    /** Steps recorded so far. */
+    public synchronized long getTicks() {
+        return tick;
+    }
+
+    /** Write the end marker and close the file. Safe to call twice (shutdown hook). */
+    @Override
+    public synchronized void close() {
+        if (closed)
+            return;
+        closed = true;
+        try {
+            drain();
+            putVarint(tick - lastRecordTick);
+            putVarint(0);
+            drain();
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("[InputRecorder] " + e.getMessage());
+        }
+    }
+
+    /** Make room for bytes more; false (and recording stops) if the write fails. */
+    private boolean ensure(int bytes) {
+        if (out.remaining() >= bytes)
+            return true;
+        try {
+            drain();
+            return true;
+        } catch (IOException e) {
+            System.err.println("[InputRecorder] Recording stopped: " + e.getMessage());
+            closed = true;
+            return false;
+        }
+    }
+
+    private void drain() throws IOException {
+        out.flip();
+        while (out.hasRemaining())
+            channel.write(out);
+        out.clear();
+    }
+
+    private void putVarint(long v) {
+        while ((v & ~0x7FL) != 0) {
+            out.put((byte) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.put((byte) v);
+    }
+}
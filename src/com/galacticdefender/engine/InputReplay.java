@@ -0,0 +1,109 @@
+package com.galacticdefender.engine;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Plays an InputRecorder file back as a HeadlessRunner input script: each
+ * recorded event is fed to the InputHandler just before the step that
+ * consumed it. Run with the recorded seed and dt (GameEngine --replay sets
+ * both), the simulation repeats the recorded game step for step.
+ *
+ * Usage: {@code GameEngine --replay=run.gdr}
+ */
+public class InputReplay implements HeadlessRunner.InputScript {
+
+    private final long seed;
+    private final float dt;
+    private final ByteBuffer in;
+    private final long totalTicks;
+
+    private long nextTick; // step of the next unread record
+    private int nextCount; // its event count; 0 = end of recording
+
+    private InputReplay(ByteBuffer in) throws IOException {
+        this.in = in;
+        if (in.getInt() != InputRecorder.MAGIC)
+            throw new IOException("Not an input recording");
+        byte version = in.get();
+        if (version != InputRecorder.VERSION)
+            throw new IOException("Unsupported recording version " + version);
+        seed = in.getLong();
+        dt = in.getFloat();
+        int body = in.position();
+
+        // One pass to find the length, then rewind to the first record
+        long tick = 0;
+        while (true) {
+            tick += getVarint();
+            int n = (int) getVarint();
+            if (n == 0)
+                break;
+            for (int i = 0; i < n; i++)
+                getVarint();
+        }
+        totalTicks = tick;
+        in.position(body);
+        readHeader();
+    }
+
+    /** Read a recording into memory. */
+    public static InputReplay open(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buf = ByteBuffer.allocate((int) ch.size());
+            while (buf.hasRemaining())
+                if (ch.read(buf) < 0)
+                    break;
+            buf.flip();
+            return new InputReplay(buf);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated recording: " + file);
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public float getDt() {
+        return dt;
+    }
+
+    /** Steps in the recording, including idle ones after the last event. */
+    public long getTotalTicks() {
+        return totalTicks;
+    }
+
+    @Override
+    public void apply(long tick, InputHandler input, GameEngine engine) {
+        if (nextCount == 0 || tick != nextTick)
+            return;
+        for (int i = 0; i < nextCount; i++) {
+            int e = (int) getVarint();
+            if ((e & 1) != 0)
+                input.press(e >>> 1);
+            else
+                input.release(e >>> 1);
+        }
+        readHeader();
+    }
+
+    private void readHeader() {
+        nextTick += getVarint();
+        nextCount = (int) getVarint();
+    }
+
+    private long getVarint() {
+        long v = 0;
+        for (int shift = 0;; shift += 7) {
+            byte b = in.get();
+            v |= (long) (b & 0x7F) << shift;
+            if (b >= 0)
+                return v;
+        }
+    }
+}
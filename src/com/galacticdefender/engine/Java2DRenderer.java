@@ -0,0 +1,148 @@
+package com.galacticdefender.engine;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Renderer backed by a Graphics2D (the window's BufferStrategy, or any
+ * image for screenshots). One instance is reused across frames; call
+ * {@link #begin} with each frame's Graphics2D.
+ *
+ * Layers are copied into VolatileImages on the target device and blitted
+ * from there; they are validated every frame, recreated when incompatible
+ * and re-copied when the device drops their contents or the source image
+ * changes. Java2D has no additive composite, so Blend.ADDITIVE draws as
+ * source-over.
+ */
+public class Java2DRenderer implements Renderer {
+
+    private Graphics2D g;
+    private float alpha = 1f;
+    private final int[] region = new int[4];
+    private final Map<BufferedImage, VolatileImage> layers = new IdentityHashMap<>();
+    private final Map<BufferedImage, Boolean> staleLayers = new IdentityHashMap<>();
+
+    /** Start drawing into g with full opacity and no translation applied yet. */
+    public Java2DRenderer begin(Graphics2D g) {
+        this.g = g;
+        this.alpha = 1f;
+        g.setComposite(AlphaComposite.SrcOver);
+        return this;
+    }
+
+    // ── Images ────────────────────────────────────────────────
+
+    @Override
+    public boolean sprite(int id, boolean mirrored, int x, int y) {
+        BufferedImage atlas = id < 0 ? null : ResourceLoader.spriteRegion(id, mirrored, region);
+        if (atlas == null)
+            return false;
+        imageRegion(atlas, x, y, region[0], region[1], region[2], region[3]);
+        return true;
+    }
+
+    @Override
+    public void image(BufferedImage img, int x, int y) {
+        g.drawImage(img, x, y, null);
+    }
+
+    @Override
+    public void imageRegion(BufferedImage img, int dx, int dy, int sx, int sy, int w, int h) {
+        g.drawImage(img, dx, dy, dx + w, dy + h, sx, sy, sx + w, sy + h, null);
+    }
+
+    @Override
+    public void layer(BufferedImage img, int x, int y) {
+        GraphicsConfiguration gc = g.getDeviceConfiguration();
+        if (gc.getDevice().getType() == GraphicsDevice.TYPE_IMAGE_BUFFER) {
+            // Drawing into an image (headless, screenshots): nothing to accelerate
+            g.drawImage(img, x, y, null);
+            return;
+        }
+        VolatileImage vi = layers.get(img);
+        do {
+            int state = vi == null ? VolatileImage.IMAGE_INCOMPATIBLE : vi.validate(gc);
+            if (state == VolatileImage.IMAGE_INCOMPATIBLE) {
+                vi = gc.createCompatibleVolatileImage(img.getWidth(), img.getHeight(),
+                        img.getTransparency());
+                layers.put(img, vi);
+            }
+            boolean stale = staleLayers.remove(img) != null;
+            if (state != VolatileImage.IMAGE_OK || stale) {
+                Graphics2D lg = vi.createGraphics();
+                lg.setComposite(AlphaComposite.Src);
+                lg.drawImage(img, 0, 0, null);
+                lg.dispose();
+            }
+            g.drawImage(vi, x, y, null);
+        } while (vi.contentsLost());
+    }
+
+    @Override
+    public void imageChanged(BufferedImage img) {
+        if (layers.containsKey(img))
+            staleLayers.put(img, Boolean.TRUE);
+    }
+
+    // ── Shapes and text ───────────────────────────────────────
+
+    @Override
+    public void fillRect(int x, int y, int w, int h, Color c) {
+        g.setColor(c);
+        g.fillRect(x, y, w, h);
+    }
+
+    @Override
+    public void drawRect(int x, int y, int w, int h, Color c) {
+        g.setColor(c);
+        g.drawRect(x, y, w, h);
+    }
+
+    @Override
+    public void fillOval(int x, int y, int w, int h, Color c) {
+        g.setColor(c);
+        g.fillOval(x, y, w, h);
+    }
+
+    @Override
+    public void text(String s, int x, int y, Font font, Color c) {
+        g.setFont(font);
+        g.setColor(c);
+        g.drawString(s, x, y);
+    }
+
+    @Override
+    public int textWidth(String s, Font font) {
+        return g.getFontMetrics(font).stringWidth(s);
+    }
+
+    // ── State ─────────────────────────────────────────────────
+
+    @Override
+    public void setAlpha(float alpha) {
+        alpha = Math.max(0f, Math.min(1f, alpha));
+        if (alpha == this.alpha)
+            return;
+        this.alpha = alpha;
+        g.setComposite(alpha >= 1f ? AlphaComposite.SrcOver
+                : AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
+    }
+
+    @Override
+    public float getAlpha() {
+        return alpha;
+    }
+
+    @Override
+    public void setBlend(Blend blend) {
+        // No additive AlphaComposite in Java2D; everything is source-over
+    }
+
+    @Override
+    public void translate(double dx, double dy) {
+        g.translate(dx, dy);
+    }
+}
@@ -0,0 +1,133 @@
+package com.galacticdefender.engine;
+
+import com.galacticdefender.objects.BulletSystem;
+import com.galacticdefender.objects.Enemy;
+import com.galacticdefender.objects.GameObject;
+import com.galacticdefender.objects.Player;
+import com.galacticdefender.utils.Constants;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The object and bullet update stage of a step, split across a
+ * ForkJoinPool once there are enough entities to pay for it.
+ *
+ * Safe because an update only writes the entity's own state: enemies read
+ * the player and World's platform index, and queue their shots in a buffer of
+ * their own instead of touching the (single-threaded) bullet pool.
+ * GamePanel drains those buffers afterwards in list order, and bullets are
+ * moved in parallel but culled sequentially, so the result is identical to
+ * the sequential update – replays stay exact at any thread count.
+ *
+ * Thresholds: -Dgd.parallel.objects=N and -Dgd.parallel.bullets=N (entity
+ * counts below which the stage stays on the calling thread);
+ * -Dgd.parallel.threads=N sizes the pool (1 disables it).
+ */
+public class ParallelUpdate {
+
+    private final int objectThreshold = Integer.getInteger("gd.parallel.objects", Constants.PARALLEL_MIN_OBJECTS);
+    private final int bulletThreshold = Integer.getInteger("gd.parallel.bullets", Constants.PARALLEL_MIN_BULLETS);
+    private final ForkJoinPool pool; // null: always sequential
+
+    public ParallelUpdate() {
+        int threads = Integer.getInteger("gd.parallel.threads", Runtime.getRuntime().availableProcessors());
+        pool = threads > 1 ? new ForkJoinPool(threads) : null;
+    }
+
+    /** Update every active object; enemies get the player for targeting. */
+    public void updateObjects(EntityStore objects, Player player, float dt) {
+        int n = objects.size();
+        if (pool == null || n < objectThreshold) {
+            updateRange(objects, 0, n, player, dt);
+            return;
+        }
+        pool.invoke(new ObjectTask(objects, 0, n, grain(n), player, dt));
+    }
+
+    /** Move every bullet and cull the ones that left the screen. */
+    public void updateBullets(BulletSystem bullets, float dt) {
+        int n = bullets.size();
+        if (pool == null || n < bulletThreshold) {
+            bullets.update(dt);
+            return;
+        }
+        pool.invoke(new BulletTask(bullets, 0, n, grain(n), dt));
+        bullets.cull();
+    }
+
+    /** Roughly four leaves per worker, so uneven ranges still balance. */
+    private int grain(int n) {
+        return Math.max(64, n / (pool.getParallelism() * 4));
+    }
+
+    static void updateRange(EntityStore objects, int from, int to, Player player, float dt) {
+        for (int i = from; i < to; i++) {
+            GameObject obj = objects.get(i);
+            if (!obj.isActive())
+                continue;
+            if (obj instanceof Enemy)
+                ((Enemy) obj).update(dt, player);
+            else
+                obj.update(dt);
+        }
+    }
+
+    // ── Fork/join tasks: halve the range down to the grain ────
+
+    private static final class ObjectTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final EntityStore objects;
+        private final int from, to, grain;
+        private final Player player;
+        private final float dt;
+
+        ObjectTask(EntityStore objects, int from, int to, int grain, Player player, float dt) {
+            this.objects = objects;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.player = player;
+            this.dt = dt;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                updateRange(objects, from, to, player, dt);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ObjectTask(objects, from, mid, grain, player, dt),
+                    new ObjectTask(objects, mid, to, grain, player, dt));
+        }
+    }
+
+    private static final class BulletTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final BulletSystem bullets;
+        private final int from, to, grain;
+        private final float dt;
+
+        BulletTask(BulletSystem bullets, int from, int to, int grain, float dt) {
+            this.bullets = bullets;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.dt = dt;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                bullets.integrate(from, to, dt);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new BulletTask(bullets, from, mid, grain, dt),
+                    new BulletTask(bullets, mid, to, grain, dt));
+        }
+    }
+}
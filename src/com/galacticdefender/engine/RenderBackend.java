@@ -0,0 +1,41 @@
+package com.galacticdefender.engine;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Where frames end up: a window plus the Renderer that draws into it.
+ *
+ * Chosen at startup with -Dgd.renderer:
+ * - java2d (default): GameWindow, a JFrame with a BufferStrategy
+ * - gl: the OpenGL backend from backends/lwjgl (GLBackend), which batches
+ *   draws into instanced quads. Falls back to java2d if it is not on the
+ *   classpath or cannot start.
+ *
+ * Game code only sees the Renderer, so switching needs no logic changes.
+ */
+public interface RenderBackend {
+
+    /** Draw one snapshot, alpha of the way between its two steps, and present it. */
+    void renderFrame(GamePanel panel, WorldSnapshot snapshot, float alpha);
+
+    String GL_BACKEND = "com.galacticdefender.gl.GLBackend";
+
+    /** Build the backend named by -Dgd.renderer. */
+    static RenderBackend create(GamePanel panel, InputHandler input) {
+        String name = System.getProperty("gd.renderer", "java2d");
+        if (name.equalsIgnoreCase("gl")) {
+            try {
+                return (RenderBackend) Class.forName(GL_BACKEND)
+                        .getConstructor(GamePanel.class, InputHandler.class)
+                        .newInstance(panel, input);
+            } catch (InvocationTargetException e) {
+                System.err.println("[RenderBackend] OpenGL unavailable, using Java2D: " + e.getCause());
+            } catch (ReflectiveOperationException | LinkageError e) {
+                System.err.println("[RenderBackend] OpenGL backend not found, using Java2D: " + e);
+            }
+        } else if (!name.equalsIgnoreCase("java2d")) {
+            System.err.println("[RenderBackend] Unknown renderer '" + name + "', using Java2D");
+        }
+        return new GameWindow(panel, input);
+    }
+}
@@ -0,0 +1,51 @@
+package com.galacticdefender.engine;
+
+import com.galacticdefender.utils.Constants;
+
+/**
+ * Dedicated render thread. Draws the newest WorldSnapshot published by the
+ * update thread at the target frame rate, so slow Java2D frames no longer
+ * delay the simulation and the two overlap across cores. Hand-over goes
+ * through a lock-free TripleBuffer; this thread never touches live state.
+ *
+ * Enabled by default; -Dgd.renderThread=false renders on the loop thread.
+ */
+public class RenderLoop implements Runnable {
+
+    private static final long TARGET_NS = 1_000_000_000L / Constants.FPS;
+
+    private final GameEngine engine;
+    private volatile boolean running = false;
+    private Thread thread;
+
+    public RenderLoop(GameEngine engine) {
+        this.engine = engine;
+    }
+
+    public synchronized void start() {
+        if (running)
+            return;
+        running = true;
+        thread = new Thread(this, "Render-Thread");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public void run() {
+        long nextFrame = System.nanoTime() + TARGET_NS;
+        while (running) {
+            engine.renderAt(System.nanoTime());
+
+            GameLoop.waitUntil(nextFrame);
+            nextFrame += TARGET_NS;
+            long late = System.nanoTime() - nextFrame;
+            if (late > TARGET_NS)
+                nextFrame += (late / TARGET_NS) * TARGET_NS;
+        }
+    }
+}
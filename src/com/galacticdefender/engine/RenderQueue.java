@@ -0,0 +1,70 @@
+package com.galacticdefender.engine;
+
+import com.galacticdefender.objects.GameObject;
+import com.galacticdefender.utils.Constants;
+
+import java.util.Arrays;
+
+/**
+ * Per-frame draw list for the objects in a snapshot.
+ *
+ * {@link #build} drops every object whose (interpolated) box, grown by its
+ * cull margin, lies entirely outside the viewport, then sorts the rest by
+ * a packed 64-bit key: render layer, then material, then original index.
+ * Objects that draw with the same material (atlas sprites, stamps, plain
+ * shapes) therefore come out back to back, so Graphics2D sees one run of
+ * similar calls per batch instead of state changes in list order, and the
+ * index keeps the order stable within a batch.
+ *
+ * Sorting primitive longs allocates nothing. Render thread only.
+ */
+public class RenderQueue {
+
+    private static final int VIEW_W = Constants.WINDOW_WIDTH, VIEW_H = Constants.WINDOW_HEIGHT;
+
+    private long[] keys = new long[256];
+    private GameObject[] source = new GameObject[0];
+    private int count;
+    private int culled;
+
+    /**
+     * Cull and sort the first n objects. alpha is the interpolation factor
+     * the frame will be drawn with, so culling uses on-screen positions.
+     */
+    public void build(GameObject[] objects, int n, float alpha) {
+        if (keys.length < n)
+            keys = new long[Math.max(n, keys.length * 2)];
+        source = objects;
+        count = 0;
+        culled = 0;
+        for (int i = 0; i < n; i++) {
+            GameObject obj = objects[i];
+            int m = obj.getCullMargin();
+            float ox = obj.lerpX(alpha), oy = obj.lerpY(alpha);
+            if (ox + obj.getWidth() + m < 0 || ox - m > VIEW_W
+                    || oy + obj.getHeight() + m < 0 || oy - m > VIEW_H) {
+                culled++;
+                continue;
+            }
+            keys[count++] = (long) (obj.getRenderLayer() & 0xFF) << 56
+                    | (long) (obj.getMaterial() & 0xFFFFFF) << 32
+                    | i;
+        }
+        Arrays.sort(keys, 0, count);
+    }
+
+    /** Number of objects to draw this frame. */
+    public int size() {
+        return count;
+    }
+
+    /** The i-th object in draw order. */
+    public GameObject get(int i) {
+        return source[(int) keys[i]];
+    }
+
+    /** Objects dropped by the last build as off screen. */
+    public int getCulled() {
+        return culled;
+    }
+}
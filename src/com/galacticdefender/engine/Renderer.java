@@ -0,0 +1,78 @@
+package com.galacticdefender.engine;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Drawing surface the game renders through, independent of the backend.
+ *
+ * Game objects and UI screens only issue these calls; Java2DRenderer maps
+ * them onto a Graphics2D, and the OpenGL backend (backends/lwjgl) batches
+ * them into instanced textured quads. Anything more elaborate (gradients,
+ * antialiased shapes, text layouts) is rasterised once into a
+ * BufferedImage with plain Java2D – sprite atlas, stamps, HUD widgets –
+ * and drawn through {@link #image}.
+ *
+ * Images are identified by reference: a backend may upload an image once
+ * and reuse the copy, so callers that repaint an image in place must call
+ * {@link #imageChanged} before drawing it again.
+ */
+public interface Renderer {
+
+    enum Blend {
+        /** Source over. */
+        NORMAL,
+        /** Source added onto the destination (glows, flashes). */
+        ADDITIVE
+    }
+
+    // ── Images ────────────────────────────────────────────────
+
+    /**
+     * Sprite from the ResourceLoader atlas, top-left at (x, y).
+     *
+     * @return false if the sprite has no image (missing file, or id < 0),
+     *         so the caller can draw a placeholder.
+     */
+    boolean sprite(int id, boolean mirrored, int x, int y);
+
+    /** Whole image, unscaled, top-left at (x, y). */
+    void image(BufferedImage img, int x, int y);
+
+    /** The w × h region of img at (sx, sy), unscaled, top-left at (dx, dy). */
+    void imageRegion(BufferedImage img, int dx, int dy, int sx, int sy, int w, int h);
+
+    /**
+     * Large image that stays the same for many frames (background,
+     * platforms). Backends may keep it resident on the device.
+     */
+    void layer(BufferedImage img, int x, int y);
+
+    /** img was repainted in place; drop any copy made of it. */
+    void imageChanged(BufferedImage img);
+
+    // ── Shapes and text ───────────────────────────────────────
+
+    void fillRect(int x, int y, int w, int h, Color c);
+
+    /** One-pixel outline covering (x, y) to (x + w, y + h), like Graphics.drawRect. */
+    void drawRect(int x, int y, int w, int h, Color c);
+
+    void fillOval(int x, int y, int w, int h, Color c);
+
+    /** Text with its baseline starting at (x, y). */
+    void text(String s, int x, int y, Font font, Color c);
+
+    int textWidth(String s, Font font);
+
+    // ── State ─────────────────────────────────────────────────
+
+    /** Opacity multiplied into everything drawn afterwards, 0..1. */
+    void setAlpha(float alpha);
+
+    float getAlpha();
+
+    void setBlend(Blend blend);
+
+    void translate(double dx, double dy);
+}
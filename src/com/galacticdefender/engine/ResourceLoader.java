@@ -2,50 +2,94 @@ package com.galacticdefender.engine;
 
 import javax.imageio.ImageIO;
 import java.awt.*;
+import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Singleton-style utility for loading and caching image assets from disk.
  * Demonstrates encapsulation and file-handling exception management.
+ *
+ * Also owns the sprite atlas: sprites are registered up front with
+ * {@link #defineSprite}, which hands out an int id, and are packed – each
+ * in both facings – into one image compatible with the screen device.
+ * Drawing a sprite is then a single unscaled, unflipped blit of a region
+ * of that image (Renderer.sprite), which Java2D keeps on its accelerated
+ * path and the OpenGL backend turns into one textured quad.
+ *
+ * All caches are concurrent so AssetPreloader can decode and scale on a
+ * worker pool; once it has finished, every lookup here is a map read.
  */
 public final class ResourceLoader {
     private ResourceLoader() {
     }
 
-    private static final Map<String, BufferedImage> cache = new HashMap<>();
+    private static final Map<String, BufferedImage> cache = new ConcurrentHashMap<>();
+    private static final Map<String, BufferedImage> scaled = new ConcurrentHashMap<>();
+    private static final Set<String> missing = ConcurrentHashMap.newKeySet();
+
+    static {
+        ImageIO.setUseCache(false); // decode in memory, not through temp files
+    }
 
     /**
      * Load an image from disk (cached after first load).
-     * Returns null and logs a warning if the file cannot be read.
+     * Returns null and logs a warning if the file cannot be read; the
+     * failure is remembered, so the warning is logged once.
      */
     public static BufferedImage loadImage(String path) {
-        if (cache.containsKey(path))
-            return cache.get(path);
+        BufferedImage img = cache.get(path);
+        if (img != null || missing.contains(path))
+            return img;
         try {
             File f = new File(path);
             if (!f.exists())
                 throw new IOException("Missing: " + path);
-            BufferedImage img = ImageIO.read(f);
-            cache.put(path, img);
-            return img;
+            img = ImageIO.read(f);
+            if (img == null)
+                throw new IOException("Unreadable: " + path);
+            BufferedImage prev = cache.putIfAbsent(path, img);
+            return prev != null ? prev : img;
         } catch (IOException e) {
-            System.err.println("[ResourceLoader] " + e.getMessage());
+            if (missing.add(path))
+                System.err.println("[ResourceLoader] " + e.getMessage());
             return null;
         }
     }
 
+    /** The image at path scaled to w × h (see scaleImage), cached; null if missing. */
+    public static BufferedImage loadScaled(String path, int w, int h) {
+        String key = path + '@' + w + 'x' + h;
+        BufferedImage img = scaled.get(key);
+        if (img != null)
+            return img;
+        img = scaleImage(loadImage(path), w, h);
+        if (img == null)
+            return null;
+        BufferedImage prev = scaled.putIfAbsent(key, img);
+        return prev != null ? prev : img;
+    }
+
+    /** loadScaled without loading: null until it has been loaded. Never blocks. */
+    public static BufferedImage peekScaled(String path, int w, int h) {
+        return scaled.get(path + '@' + w + 'x' + h);
+    }
+
     /**
      * Scale a BufferedImage to the target width × height using bicubic
-     * interpolation.
+     * interpolation. The result is compatible with the screen device.
      */
     public static BufferedImage scaleImage(BufferedImage src, int w, int h) {
         if (src == null)
             return null;
-        BufferedImage out = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+        BufferedImage out = compatibleImage(w, h, src.getTransparency());
         Graphics2D g = out.createGraphics();
         g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
         g.drawImage(src, 0, 0, w, h, null);
@@ -53,7 +97,167 @@ public final class ResourceLoader {
         return out;
     }
 
+    /**
+     * A blank image in the screen device's native pixel layout, so blits
+     * from it need no format conversion. Plain ARGB when headless.
+     */
+    public static BufferedImage compatibleImage(int w, int h, int transparency) {
+        if (!GraphicsEnvironment.isHeadless()) {
+            GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice().getDefaultConfiguration();
+            return gc.createCompatibleImage(w, h, transparency);
+        }
+        return new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+    }
+
     public static void clearCache() {
         cache.clear();
+        scaled.clear();
+        missing.clear();
+    }
+
+    // ── Sprite atlas ──────────────────────────────────────────
+
+    private static final int ATLAS_WIDTH = 1024;
+    private static final int PAD = 1; // transparent gutter between cells
+
+    /** Source cell and target size of one registered sprite. */
+    private record SpriteDef(String path, int col, int row, int cols, int rows, int w, int h) {
+    }
+
+    /** A packed atlas; coords holds x, y, w, h per id (w == 0: missing). */
+    private record Atlas(BufferedImage image, int[] coords, int count) {
+    }
+
+    private static final List<SpriteDef> sprites = new CopyOnWriteArrayList<>();
+    private static final Map<Integer, BufferedImage> cells = new ConcurrentHashMap<>(); // scaled, by id
+    private static volatile Atlas atlas;
+
+    /** Register a whole image as a sprite of w × h. */
+    public static int defineSprite(String path, int w, int h) {
+        return defineSprite(path, 0, 0, 1, 1, w, h);
+    }
+
+    /**
+     * Register one cell of a sprite sheet (cols × rows equal cells) as a
+     * sprite of w × h. Nothing is loaded yet; the image is decoded when the
+     * atlas is built.
+     *
+     * @return The sprite id, used with Renderer.sprite.
+     */
+    public static synchronized int defineSprite(String path, int col, int row,
+            int cols, int rows, int w, int h) {
+        sprites.add(new SpriteDef(path, col, row, cols, rows, w, h));
+        return sprites.size() - 1;
+    }
+
+    /** Number of sprites defined so far (ids are 0 .. count - 1). */
+    public static int spriteCount() {
+        return sprites.size();
+    }
+
+    /**
+     * Decode and scale sprite id ahead of {@link #buildAtlas}. Independent
+     * sprites may be prepared in parallel; buildAtlas then only blits.
+     */
+    public static void prepareSprite(int id) {
+        if (cells.containsKey(id))
+            return;
+        SpriteDef d = sprites.get(id);
+        BufferedImage src = loadImage(d.path);
+        if (src == null)
+            return; // left out of the atlas: spriteRegion reports it missing
+        int sw = src.getWidth() / d.cols, sh = src.getHeight() / d.rows;
+        int sx = d.col * sw, sy = d.row * sh;
+        BufferedImage cell = compatibleImage(d.w, d.h, Transparency.TRANSLUCENT);
+        Graphics2D g = cell.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        g.drawImage(src, 0, 0, d.w, d.h, sx, sy, sx + sw, sy + sh, null);
+        g.dispose();
+        cells.putIfAbsent(id, cell);
+    }
+
+    /**
+     * Pack every registered sprite into the atlas, preparing any sprite not
+     * prepared yet. Called once by AssetPreloader; sprites defined later
+     * trigger a rebuild on their first draw.
+     */
+    public static synchronized void buildAtlas() {
+        int n = sprites.size();
+        int[] coords = new int[n * 4];
+
+        // Shelf packing, tallest first; each cell holds both facings side by side
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++)
+            order[i] = i;
+        Arrays.sort(order, (a, b) -> sprites.get(b).h - sprites.get(a).h);
+
+        int cx = 0, cy = 0, shelf = 0;
+        for (int id : order) {
+            SpriteDef d = sprites.get(id);
+            int cw = d.w * 2 + PAD * 2;
+            if (cx + cw > ATLAS_WIDTH) {
+                cx = 0;
+                cy += shelf;
+                shelf = 0;
+            }
+            coords[id * 4] = cx;
+            coords[id * 4 + 1] = cy;
+            cx += cw;
+            shelf = Math.max(shelf, d.h + PAD);
+        }
+        int height = Math.max(1, cy + shelf);
+
+        BufferedImage img = compatibleImage(ATLAS_WIDTH, height, Transparency.TRANSLUCENT);
+        Graphics2D g = img.createGraphics();
+        AffineTransform base = g.getTransform();
+        for (int id = 0; id < n; id++) {
+            SpriteDef d = sprites.get(id);
+            prepareSprite(id);
+            BufferedImage cell = cells.get(id);
+            if (cell == null)
+                continue; // coords w stays 0: spriteRegion reports it missing
+            int ax = coords[id * 4], ay = coords[id * 4 + 1];
+
+            g.drawImage(cell, ax, ay, null);
+            // Mirrored copy to the right of the original
+            int mx = ax + d.w + PAD;
+            g.translate(mx + d.w, ay);
+            g.scale(-1, 1);
+            g.drawImage(cell, 0, 0, null);
+            g.setTransform(base);
+
+            coords[id * 4 + 2] = d.w;
+            coords[id * 4 + 3] = d.h;
+        }
+        g.dispose();
+
+        atlas = new Atlas(img, coords, n);
+        cells.clear(); // everything is in the atlas now
+    }
+
+    /**
+     * Locate sprite {@code id} in the atlas: fills out with the source
+     * x, y, w, h of the requested facing.
+     *
+     * @param mirrored true for the horizontally flipped facing.
+     * @return The atlas image, or null if the sprite has no image (missing
+     *         file), so the caller can draw a placeholder.
+     */
+    public static BufferedImage spriteRegion(int id, boolean mirrored, int[] out) {
+        Atlas a = atlas;
+        if (a == null || id >= a.count) {
+            buildAtlas();
+            a = atlas;
+        }
+        int[] c = a.coords;
+        int w = c[id * 4 + 2], h = c[id * 4 + 3];
+        if (w == 0)
+            return null;
+        out[0] = c[id * 4] + (mirrored ? w + PAD : 0);
+        out[1] = c[id * 4 + 1];
+        out[2] = w;
+        out[3] = h;
+        return a.image;
     }
 }
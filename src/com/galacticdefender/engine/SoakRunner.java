@@ -0,0 +1,255 @@
+package com.galacticdefender.engine;
+
+import com.galacticdefender.objects.*;
+import com.galacticdefender.utils.Constants;
+import com.galacticdefender.utils.GameRandom;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Stress / soak harness: runs the headless simulation for a fixed number
+ * of wall-clock minutes while injecting enemies, bullets and explosions at
+ * given rates, and writes one CSV row per sample interval.
+ *
+ * Each row holds step-time percentiles, GC collections and time
+ * (GarbageCollectorMXBean), heap in use and its peak (MemoryPoolMXBean)
+ * and live entity counts. The player is driven by HeadlessRunner's
+ * AutoPilot and kept shielded, so the run never ends in a game over.
+ *
+ * Usage:
+ * <pre>
+ *   java -cp out com.galacticdefender.engine.SoakRunner --minutes=10 \
+ *        --basic=20 --fast=10 --boss=0.1 --bullets=500 --explosions=30 \
+ *        --max-enemies=5000 --interval=1 --csv=soak.csv
+ * </pre>
+ * Rates are per simulated second; the simulation runs as fast as it can.
+ */
+public class SoakRunner {
+
+    // ── Parameters ────────────────────────────────────────────
+    double minutes = 1;
+    double basicRate, fastRate, bossRate, bulletRate, explosionRate;
+    int maxEnemies = 5_000;
+    double interval = 1; // wall-clock s per CSV row
+    Path csv = Path.of("soak.csv");
+
+    private final GameEngine engine;
+    private final GamePanel panel;
+    private final float dt = Constants.FIXED_DT;
+    private final Random rng = GameRandom.get();
+    private double basicDue, fastDue, bossDue, bulletDue, explosionDue;
+
+    // ── Per-interval measurements ─────────────────────────────
+    private long[] stepNanos = new long[1 << 16];
+    private int steps;
+    private final List<GarbageCollectorMXBean> gcs = ManagementFactory.getGarbageCollectorMXBeans();
+    private final List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(p -> p.getType() == MemoryType.HEAP).toList();
+    private long lastGcCount, lastGcMillis;
+    private long heapHighWater;
+    private int peakEntities;
+
+    SoakRunner(GameEngine engine) {
+        this.engine = engine;
+        this.panel = engine.getPanel();
+    }
+
+    /** Run until the time is up, writing the CSV as it goes. */
+    void run() throws IOException {
+        HeadlessRunner.InputScript pilot = new HeadlessRunner.AutoPilot();
+        InputHandler input = engine.getInput();
+        Player player = engine.getPlayer();
+
+        long start = System.nanoTime();
+        long end = start + (long) (minutes * 60e9);
+        long nextSample = start + (long) (interval * 1e9);
+        long ticks = 0;
+        lastGcCount = gcCount();
+        lastGcMillis = gcMillis();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        try (BufferedWriter out = Files.newBufferedWriter(csv)) {
+            out.write("elapsed_s,ticks,p50_ms,p95_ms,p99_ms,max_ms,gc_count,gc_ms,"
+                    + "heap_used_mb,heap_peak_mb,entities,enemies,bullets,effects");
+            out.newLine();
+            for (long now = start; now < end; ticks++) {
+                pilot.apply(ticks, input, engine);
+                if (engine.getScene().isPlaying()) {
+                    player.activateShield(Long.MAX_VALUE / 2);
+                    inject();
+                }
+                long t0 = System.nanoTime();
+                engine.tick(dt);
+                now = System.nanoTime();
+                record(now - t0);
+
+                if (now >= nextSample) {
+                    sample(out, (now - start) / 1e9, ticks + 1);
+                    nextSample += (long) (interval * 1e9);
+                }
+            }
+            if (steps > 0)
+                sample(out, (System.nanoTime() - start) / 1e9, ticks);
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("[Soak] %d ticks in %.1f s (%.0f ticks/sec), %.1f simulated min%n",
+                ticks, seconds, ticks / seconds, ticks * dt / 60);
+        System.out.printf("[Soak] peak entities %d, heap high-water %.1f MB, %d GCs; rows in %s%n",
+                peakEntities, heapHighWater / 1048576.0, gcCount(), csv);
+    }
+
+    // ── Load injection ────────────────────────────────────────
+
+    private void inject() {
+        EntityStore objects = panel.getObjects();
+        int enemies = countEnemies(objects);
+
+        basicDue += basicRate * dt;
+        for (; basicDue >= 1; basicDue--)
+            if (enemies++ < maxEnemies)
+                objects.add(new BasicEnemy(randomX(), -80));
+        fastDue += fastRate * dt;
+        for (; fastDue >= 1; fastDue--)
+            if (enemies++ < maxEnemies)
+                objects.add(new FastEnemy(randomX(), -80));
+        bossDue += bossRate * dt;
+        for (; bossDue >= 1; bossDue--)
+            if (enemies++ < maxEnemies)
+                objects.add(new BossEnemy(randomX(), -140));
+
+        bulletDue += bulletRate * dt;
+        BulletSystem bullets = panel.getBullets();
+        for (; bulletDue >= 1; bulletDue--) {
+            boolean friendly = rng.nextBoolean();
+            float vx = (friendly ? 1 : -1) * Constants.BULLET_SPEED;
+            bullets.spawn(friendly ? 0 : Constants.WINDOW_WIDTH, rng.nextInt(Constants.WINDOW_HEIGHT),
+                    vx, rng.nextFloat() * 160 - 80, friendly);
+        }
+
+        explosionDue += explosionRate * dt;
+        for (; explosionDue >= 1; explosionDue--)
+            objects.add(ExplosionEffect.obtain(randomX(), rng.nextInt(Constants.WINDOW_HEIGHT)));
+    }
+
+    private float randomX() {
+        return 20 + rng.nextInt(Constants.WINDOW_WIDTH - 100);
+    }
+
+    private static int countEnemies(EntityStore objects) {
+        int n = 0;
+        for (int i = 0, size = objects.size(); i < size; i++)
+            if (objects.get(i) instanceof Enemy)
+                n++;
+        return n;
+    }
+
+    // ── Measurement ───────────────────────────────────────────
+
+    private void record(long nanos) {
+        if (steps == stepNanos.length)
+            stepNanos = Arrays.copyOf(stepNanos, steps * 2);
+        stepNanos[steps++] = nanos;
+    }
+
+    private void sample(BufferedWriter out, double elapsed, long ticks) throws IOException {
+        Arrays.sort(stepNanos, 0, steps);
+        long gcCount = gcCount(), gcMillis = gcMillis();
+        long heapPeak = 0;
+        for (MemoryPoolMXBean p : heapPools) {
+            heapPeak += p.getPeakUsage().getUsed();
+            p.resetPeakUsage();
+        }
+        heapHighWater = Math.max(heapHighWater, heapPeak);
+
+        EntityStore objects = panel.getObjects();
+        int entities = objects.size(), enemies = countEnemies(objects), effects = 0;
+        for (int i = 0; i < entities; i++)
+            if (objects.get(i) instanceof ExplosionEffect)
+                effects++;
+        int bullets = panel.getBullets().size();
+        peakEntities = Math.max(peakEntities, entities + bullets);
+
+        out.write(String.format("%.1f,%d,%.3f,%.3f,%.3f,%.3f,%d,%d,%.1f,%.1f,%d,%d,%d,%d",
+                elapsed, ticks, percentile(0.50), percentile(0.95), percentile(0.99),
+                stepNanos[steps - 1] / 1e6, gcCount - lastGcCount, gcMillis - lastGcMillis,
+                heapUsed() / 1048576.0, heapPeak / 1048576.0,
+                entities + bullets, enemies, bullets, effects));
+        out.newLine();
+        out.flush(); // keep every finished row if the run dies
+
+        lastGcCount = gcCount;
+        lastGcMillis = gcMillis;
+        steps = 0;
+    }
+
+    /** p-quantile of the sorted step times, in ms. */
+    private double percentile(double p) {
+        int i = (int) Math.ceil(p * steps) - 1;
+        return stepNanos[Math.max(0, i)] / 1e6;
+    }
+
+    private long gcCount() {
+        long n = 0;
+        for (GarbageCollectorMXBean gc : gcs)
+            n += Math.max(0, gc.getCollectionCount());
+        return n;
+    }
+
+    private long gcMillis() {
+        long n = 0;
+        for (GarbageCollectorMXBean gc : gcs)
+            n += Math.max(0, gc.getCollectionTime());
+        return n;
+    }
+
+    private long heapUsed() {
+        long n = 0;
+        for (MemoryPoolMXBean p : heapPools)
+            n += p.getUsage().getUsed();
+        return n;
+    }
+
+    // ── Entry point ───────────────────────────────────────────
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        SoakRunner soak = new SoakRunner(new GameEngine(true));
+        for (String a : args) {
+            int eq = a.indexOf('=');
+            if (!a.startsWith("--") || eq < 0) {
+                System.err.println("[SoakRunner] Ignoring " + a);
+                continue;
+            }
+            String key = a.substring(2, eq), value = a.substring(eq + 1);
+            switch (key) {
+                case "minutes" -> soak.minutes = Double.parseDouble(value);
+                case "basic" -> soak.basicRate = Double.parseDouble(value);
+                case "fast" -> soak.fastRate = Double.parseDouble(value);
+                case "boss" -> soak.bossRate = Double.parseDouble(value);
+                case "bullets" -> soak.bulletRate = Double.parseDouble(value);
+                case "explosions" -> soak.explosionRate = Double.parseDouble(value);
+                case "max-enemies" -> soak.maxEnemies = Integer.parseInt(value);
+                case "interval" -> soak.interval = Double.parseDouble(value);
+                case "csv" -> soak.csv = Path.of(value);
+                default -> System.err.println("[SoakRunner] Unknown option " + a);
+            }
+        }
+        try {
+            soak.run();
+        } catch (IOException e) {
+            System.err.println("[SoakRunner] Cannot write " + soak.csv + ": " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
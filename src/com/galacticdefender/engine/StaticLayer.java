@@ -0,0 +1,74 @@
+package com.galacticdefender.engine;
+
+import com.galacticdefender.objects.Platform;
+import com.galacticdefender.utils.Constants;
+import com.galacticdefender.utils.World;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Cache of everything in the level that does not move: the
+ * (parallax-scrolled) background and the platform geometry.
+ *
+ * The platforms are painted once into an offscreen image and handed to the
+ * renderer as layers together with the background, so each frame costs two
+ * blits instead of dozens of gradient and vector fills. Java2DRenderer keeps
+ * layers in VolatileImages on the device and restores them on content loss;
+ * the platform image itself is repainted only when {@link World#version()}
+ * changes.
+ *
+ * Used from the render thread only.
+ */
+public class StaticLayer {
+
+    /** Background size: the window plus one parallax period (60 px) to scroll through. */
+    public static final int BACKGROUND_W = Constants.WINDOW_WIDTH + 60;
+    public static final int BACKGROUND_H = Constants.WINDOW_HEIGHT;
+
+    private static final Color EMPTY_BG = new Color(18, 20, 30);
+
+    private BufferedImage background; // null until AssetPreloader has scaled it
+
+    private BufferedImage platforms;
+    private int platformVersion = -1;
+
+    /**
+     * Draw the background, scrolled left by parallax pixels. Until the
+     * preloader has it ready (or if the file is missing) a flat fill is
+     * drawn instead; this never loads anything itself.
+     */
+    public void drawBackground(Renderer r, int parallax) {
+        if (background == null)
+            background = ResourceLoader.peekScaled(Constants.IMG_BG, BACKGROUND_W, BACKGROUND_H);
+        if (background == null)
+            r.fillRect(0, 0, Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT, EMPTY_BG);
+        else
+            r.layer(background, -parallax, 0);
+    }
+
+    /** Draw every platform in World, repainting the layer if World changed. */
+    public void drawPlatforms(Renderer r) {
+        int version = World.version();
+        if (platforms == null || version != platformVersion) {
+            if (platforms == null)
+                platforms = ResourceLoader.compatibleImage(Constants.WINDOW_WIDTH,
+                        Constants.WINDOW_HEIGHT, Transparency.TRANSLUCENT);
+            paintPlatforms(platforms);
+            platformVersion = version;
+            r.imageChanged(platforms);
+        }
+        r.layer(platforms, 0, 0);
+    }
+
+    private static void paintPlatforms(BufferedImage img) {
+        Graphics2D g = img.createGraphics();
+        g.setComposite(AlphaComposite.Clear);
+        g.fillRect(0, 0, img.getWidth(), img.getHeight());
+        g.setComposite(AlphaComposite.SrcOver);
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        for (Platform p : World.platforms)
+            p.paint(g);
+        g.dispose();
+    }
+}
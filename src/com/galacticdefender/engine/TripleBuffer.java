@@ -0,0 +1,63 @@
+package com.galacticdefender.engine;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Lock-free single-producer / single-consumer triple buffer.
+ *
+ * The producer always owns one slot to write into, the consumer owns one
+ * slot to read from, and the third slot is the hand-over point. publish()
+ * and acquire() each swap their own slot with the hand-over slot through a
+ * single atomic exchange, so neither side ever waits for the other and the
+ * consumer never sees a slot that is still being written.
+ */
+public class TripleBuffer<T> {
+
+    private static final int INDEX_MASK = 0b011;
+    private static final int FRESH = 0b100;
+
+    private final Object[] slots = new Object[3];
+    // Hand-over slot index, plus FRESH if it holds an unread publish
+    private final AtomicInteger middle = new AtomicInteger(1);
+
+    private int writeIndex = 0; // producer-owned
+    private int readIndex = 2;  // consumer-owned
+
+    /** @param factory Creates the three slot values, given slot index 0..2. */
+    public TripleBuffer(IntFunction<T> factory) {
+        for (int i = 0; i < 3; i++)
+            slots[i] = factory.apply(i);
+    }
+
+    // ── Producer side ─────────────────────────────────────────
+
+    /** Slot the producer may fill; stays valid until publish(). */
+    @SuppressWarnings("unchecked")
+    public T back() {
+        return (T) slots[writeIndex];
+    }
+
+    /** Hand the filled back slot to the consumer and take a free one. */
+    public void publish() {
+        writeIndex = middle.getAndSet(writeIndex | FRESH) & INDEX_MASK;
+    }
+
+    // ── Consumer side ─────────────────────────────────────────
+
+    /**
+     * Latest published slot. If nothing new was published since the last
+     * call, the slot returned last time is returned again.
+     */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        if ((middle.get() & FRESH) != 0)
+            readIndex = middle.getAndSet(readIndex) & INDEX_MASK;
+        return (T) slots[readIndex];
+    }
+
+    /** True if a publish happened that acquire() has not picked up yet. */
+    public boolean hasFresh() {
+        return (middle.get() & FRESH) != 0;
+    }
+}
@@ -0,0 +1,61 @@
+package com.galacticdefender.engine;
+
+import com.galacticdefender.managers.SceneManager;
+import com.galacticdefender.objects.BulletSystem;
+import com.galacticdefender.objects.GameObject;
+import com.galacticdefender.objects.Player;
+import com.galacticdefender.ui.GameOverScreen;
+import com.galacticdefender.ui.StartScreen;
+
+import java.util.Arrays;
+
+/**
+ * Everything the renderer needs for one frame, captured by the update
+ * thread after a simulation step and handed to the render thread through a
+ * TripleBuffer.
+ *
+ * Entities are stored as render copies (see GameObject.renderCopy): each
+ * live object keeps one detached copy per snapshot slot, so filling a slot
+ * never touches an object the render thread may be drawing.
+ */
+public class WorldSnapshot {
+
+    /** One slot per TripleBuffer entry. */
+    public static final int SLOTS = 3;
+
+    final int slot;
+
+    // ── World ─────────────────────────────────────────────────
+    GameObject[] objects = new GameObject[64];
+    int objectCount;
+    Player player;
+    final BulletSystem bullets = new BulletSystem();
+    float parallaxOffset, prevParallaxOffset;
+
+    // ── HUD / screens ─────────────────────────────────────────
+    SceneManager.Scene scene = SceneManager.Scene.START;
+    int score, highScore, level;
+    boolean bossLevel;
+    boolean showDebug;
+    final StartScreen startScreen = new StartScreen();
+    final GameOverScreen gameOverScreen = new GameOverScreen();
+
+    /** System.nanoTime() at publish; 0 until the slot is first filled. */
+    long publishedNanos;
+
+    WorldSnapshot(int slot) {
+        this.slot = slot;
+    }
+
+    void beginObjects(int count) {
+        if (count > objects.length)
+            objects = new GameObject[Math.max(count, objects.length * 2)];
+        else if (objectCount > count)
+            Arrays.fill(objects, count, objectCount, null);
+        objectCount = 0;
+    }
+
+    void addObject(GameObject obj) {
+        objects[objectCount++] = obj.renderCopy(slot);
+    }
+}
@@ -1,90 +1,126 @@
 package com.galacticdefender.managers;
 
 import com.galacticdefender.objects.*;
+import com.galacticdefender.utils.Constants;
 
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
 /**
- * Detects all collisions each frame using AABB (Rectangle.intersects).
+ * Detects all collisions each frame using AABB (GameObject.overlaps).
  * Resolves: Bullet-Enemy, Player-Enemy, Player-Bullet, Player-PowerUp.
  * Returns lists of new GameObjects (explosions) to be added.
  * Demonstrates encapsulation of collision logic in one dedicated class.
+ *
+ * Player bullets are matched against enemies through a uniform-grid broad
+ * phase (see SpatialGrid) rebuilt every frame, so only bullet/enemy pairs
+ * sharing a cell reach the narrow-phase test. Bullets are read straight
+ * from the BulletSystem arrays and removed from it on impact.
  */
 public class CollisionManager {
 
+    private final SpatialGrid enemyGrid = new SpatialGrid(
+            Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT, Constants.GRID_CELL_SIZE);
+
+    // Scratch lists reused every frame so a collision pass produces no garbage
+    private final List<GameObject> toAdd = new ArrayList<>();
+    private final List<Enemy> enemies = new ArrayList<>();
+    private final List<PowerUp> powerUps = new ArrayList<>();
+
     /**
      * Run a full collision pass over all active objects.
      * 
-     * @param objects All currently active GameObjects (enemies, bullets, power-ups,
+     * @param objects All currently active GameObjects (enemies, power-ups,
      *                effects).
+     * @param bullets Every bullet in flight.
      * @param player  The player instance.
      * @param score   ScoreManager to credit kills.
      * @return List of new GameObjects (explosions) to add after this pass.
+     *         The list is reused and only valid until the next call.
      */
-    public List<GameObject> checkAll(List<GameObject> objects, Player player, ScoreManager score) {
-        List<GameObject> toAdd = new ArrayList<>();
-
-        List<Bullet> bullets = new ArrayList<>();
-        List<Enemy> enemies = new ArrayList<>();
-        List<PowerUp> powerUps = new ArrayList<>();
+    public List<GameObject> checkAll(List<GameObject> objects, BulletSystem bullets,
+            Player player, ScoreManager score) {
+        toAdd.clear();
+        enemies.clear();
+        powerUps.clear();
 
         // Categorise
-        for (GameObject obj : objects) {
+        for (int j = 0, n = objects.size(); j < n; j++) {
+            GameObject obj = objects.get(j);
             if (!obj.isActive())
                 continue;
-            if (obj instanceof Bullet)
-                bullets.add((Bullet) obj);
             if (obj instanceof Enemy)
                 enemies.add((Enemy) obj);
             if (obj instanceof PowerUp)
                 powerUps.add((PowerUp) obj);
         }
 
+        // ── Broad phase: bucket enemies into grid cells ────────
+        enemyGrid.clear();
+        for (int j = 0; j < enemies.size(); j++) {
+            Enemy e = enemies.get(j);
+            enemyGrid.insert(j, e.getX(), e.getY(), e.getWidth(), e.getHeight());
+        }
+
         // ── Player bullets vs Enemies ──────────────────────────
-        for (Bullet b : bullets) {
-            if (!b.isFriendly() || !b.isActive())
+        int i = 0;
+        while (i < bullets.size()) {
+            if (!bullets.isFriendly(i)) {
+                i++;
                 continue;
-            for (Enemy e : enemies) {
+            }
+            float bx = bullets.getX(i), by = bullets.getY(i);
+            int n = enemyGrid.query(bx, by, BulletSystem.WIDTH, BulletSystem.HEIGHT);
+            int[] candidates = enemyGrid.results();
+            boolean hit = false;
+            for (int k = 0; k < n; k++) {
+                Enemy e = enemies.get(candidates[k]);
                 if (!e.isActive())
                     continue;
-                if (b.getBounds().intersects(e.getBounds())) {
-                    e.onCollision(b);
-                    b.onCollision(e);
+                if (e.overlaps(bx, by, BulletSystem.WIDTH, BulletSystem.HEIGHT)) {
+                    e.takeDamage(bullets.getDamage(i));
+                    hit = true;
                     if (!e.isActive()) {
                         score.addScore(e.getScoreValue());
-                        toAdd.add(new ExplosionEffect(e.getX() + e.getWidth() / 2f,
+                        score.addKill();
+                        toAdd.add(ExplosionEffect.obtain(e.getX() + e.getWidth() / 2f,
                                 e.getY() + e.getHeight() / 2f));
                     }
                 }
             }
+            if (hit) {
+                score.addHit();
+                bullets.remove(i); // slot i now holds another bullet
+            } else {
+                i++;
+            }
         }
 
         // ── Enemy bullets vs Player ────────────────────────────
-        for (Bullet b : bullets) {
-            if (b.isFriendly() || !b.isActive())
-                continue;
-            if (b.getBounds().intersects(player.getBounds())) {
-                player.onCollision(b);
-                b.onCollision(player);
-            }
+        i = 0;
+        while ((i = bullets.nextOverlap(i, false, player.getX(), player.getY(),
+                player.getWidth(), player.getHeight())) >= 0) {
+            player.takeDamage(bullets.getDamage(i));
+            bullets.remove(i);
         }
 
         // ── Enemies vs Player (contact damage) ────────────────
-        for (Enemy e : enemies) {
+        for (int j = 0, ne = enemies.size(); j < ne; j++) {
+            Enemy e = enemies.get(j);
             if (!e.isActive())
                 continue;
-            if (e.getBounds().intersects(player.getBounds())) {
+            if (e.overlaps(player)) {
                 player.onCollision(e);
             }
         }
 
         // ── PowerUps vs Player ─────────────────────────────────
-        for (PowerUp pu : powerUps) {
+        for (int j = 0, np = powerUps.size(); j < np; j++) {
+            PowerUp pu = powerUps.get(j);
             if (!pu.isActive())
                 continue;
-            if (pu.getBounds().intersects(player.getBounds())) {
+            if (pu.overlaps(player)) {
                 pu.onCollision(player);
             }
         }
@@ -2,22 +2,40 @@ package com.galacticdefender.managers;
 
 import com.galacticdefender.utils.Constants;
 
-import java.io.*;
-import java.nio.file.*;
+import java.nio.file.Path;
 
 /**
- * Manages live score and high score with file persistence.
- * Demonstrates File Handling and IOException management using
- * try-with-resources.
+ * Manages live score, high score and the current run's statistics
+ * (kills, shots fired and hit, level reached).
  * Encapsulates all score state behind getters/setters.
+ *
+ * Persistence goes through a StatsStore: the run is checkpointed while it
+ * is played and recorded once more when it ends. Without a store (headless
+ * runs, benchmarks) nothing is written.
  */
 public class ScoreManager {
 
     private int score = 0;
     private int highScore = 0;
 
+    // ── Current run ─────────────────────────────────────────────
+    private final StatsStore stats; // null: not persisted
+    private long runId;
+    private long startedMillis;
+    private boolean runActive;
+    private int kills, shots, hits;
+    private long nextCheckpoint; // clock nanos
+
     public ScoreManager() {
-        loadHighScore();
+        this(null);
+    }
+
+    public ScoreManager(StatsStore stats) {
+        this.stats = stats;
+        if (stats != null) {
+            stats.migrateHighScore(Path.of(Constants.HIGHSCORE_FILE));
+            highScore = stats.getHighScore();
+        }
     }
 
     public void addScore(int points) {
@@ -26,33 +44,52 @@ public class ScoreManager {
             highScore = score;
     }
 
+    public void addKill() {
+        kills++;
+    }
+
+    public void addShots(int n) {
+        shots += n;
+    }
+
+    public void addHit() {
+        hits++;
+    }
+
+    /** Clear the score and start a new run. */
     public void reset() {
         score = 0;
+        kills = shots = hits = 0;
+        runId = stats != null ? stats.nextRunId() : 0;
+        startedMillis = System.currentTimeMillis();
+        runActive = true;
+        nextCheckpoint = 0;
     }
 
-    // ── File I/O ────────────────────────────────────────────────
+    // ── Persistence ─────────────────────────────────────────────
 
-    /** Persist the current high score to disk. Handles IOException gracefully. */
-    public void saveHighScore() {
-        try (BufferedWriter bw = Files.newBufferedWriter(Paths.get(Constants.HIGHSCORE_FILE))) {
-            bw.write(String.valueOf(highScore));
-        } catch (IOException e) {
-            System.err.println("[ScoreManager] Could not save high score: " + e.getMessage());
-        }
+    /**
+     * Called every step while playing: records a snapshot of the run every
+     * STATS_CHECKPOINT_MS of game time, so a crash loses at most that much.
+     */
+    public void checkpoint(int level, long clockNanos) {
+        if (stats == null || !runActive || clockNanos < nextCheckpoint)
+            return;
+        nextCheckpoint = clockNanos + Constants.STATS_CHECKPOINT_MS * 1_000_000L;
+        stats.record(snapshot(level, false));
     }
 
-    /** Load the persisted high score from disk on startup. */
-    private void loadHighScore() {
-        Path p = Paths.get(Constants.HIGHSCORE_FILE);
-        if (!Files.exists(p))
+    /** Record the finished run (game over, or quitting mid-game). No-op without a run. */
+    public void finishRun(int level) {
+        if (!runActive)
             return;
-        try (BufferedReader br = Files.newBufferedReader(p)) {
-            String line = br.readLine();
-            if (line != null)
-                highScore = Integer.parseInt(line.trim());
-        } catch (IOException | NumberFormatException e) {
-            System.err.println("[ScoreManager] Could not load high score: " + e.getMessage());
-        }
+        runActive = false;
+        if (stats != null)
+            stats.record(snapshot(level, true));
+    }
+
+    private StatsStore.Run snapshot(int level, boolean finished) {
+        return new StatsStore.Run(runId, startedMillis, score, level, kills, shots, hits, finished);
     }
 
     // ── Getters ─────────────────────────────────────────────────
@@ -63,4 +100,18 @@ public class ScoreManager {
     public int getHighScore() {
         return highScore;
     }
+
+    public int getKills() {
+        return kills;
+    }
+
+    /** Fraction of this run's shots that hit, 0..1. */
+    public float getAccuracy() {
+        return shots == 0 ? 0f : (float) hits / shots;
+    }
+
+    /** Persistent stats, or null when not persisted. */
+    public StatsStore getStats() {
+        return stats;
+    }
 }
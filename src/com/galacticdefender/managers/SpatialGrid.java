@@ -0,0 +1,111 @@
+package com.galacticdefender.managers;
+
+import java.util.Arrays;
+
+/**
+ * Uniform-grid broad phase over the playfield.
+ * The window is divided into square cells; every entry is stored in each
+ * cell its box touches, so a query only returns entries that share at least
+ * one cell with the query box. Boxes outside the playfield (enemies dropping
+ * in from y = -80, bullets just past an edge) are clamped into the border
+ * cells so nothing is ever missed.
+ *
+ * Entries are plain int ids (indices into the caller's list). Once the cell
+ * arrays have grown to fit a wave, rebuilding and querying allocate nothing.
+ */
+public class SpatialGrid {
+
+    private final int cellSize;
+    private final int cols, rows;
+
+    private final int[][] cells;
+    private final int[] counts;
+
+    // Query results, de-duplicated via a per-id stamp
+    private int[] results = new int[16];
+    private int[] stamps = new int[16];
+    private int queryStamp = 0;
+
+    public SpatialGrid(int width, int height, int cellSize) {
+        this.cellSize = cellSize;
+        this.cols = (width + cellSize - 1) / cellSize;
+        this.rows = (height + cellSize - 1) / cellSize;
+        this.cells = new int[cols * rows][4];
+        this.counts = new int[cols * rows];
+    }
+
+    /** Empty every cell; call once per frame before re-inserting. */
+    public void clear() {
+        Arrays.fill(counts, 0);
+    }
+
+    /** Register id in every cell overlapped by the given box. */
+    public void insert(int id, float x, float y, float w, float h) {
+        int c0 = col(x), c1 = col(x + w);
+        int r0 = row(y), r1 = row(y + h);
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int cell = r * cols + c;
+                int n = counts[cell];
+                if (n == cells[cell].length)
+                    cells[cell] = Arrays.copyOf(cells[cell], n * 2);
+                cells[cell][n] = id;
+                counts[cell] = n + 1;
+            }
+        }
+        if (id >= stamps.length)
+            stamps = Arrays.copyOf(stamps, Math.max(id + 1, stamps.length * 2));
+    }
+
+    /**
+     * Collect the ids of all entries sharing a cell with the given box.
+     * Results are unique and sorted ascending (i.e. in the caller's list
+     * order) and can be read from {@link #results()}.
+     *
+     * @return Number of candidate ids written to {@link #results()}.
+     */
+    public int query(float x, float y, float w, float h) {
+        if (++queryStamp == 0) { // wrapped – invalidate old stamps
+            Arrays.fill(stamps, 0);
+            queryStamp = 1;
+        }
+        int found = 0;
+        int c0 = col(x), c1 = col(x + w);
+        int r0 = row(y), r1 = row(y + h);
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int cell = r * cols + c;
+                int[] ids = cells[cell];
+                for (int i = 0, n = counts[cell]; i < n; i++) {
+                    int id = ids[i];
+                    if (stamps[id] == queryStamp)
+                        continue;
+                    stamps[id] = queryStamp;
+                    if (found == results.length)
+                        results = Arrays.copyOf(results, found * 2);
+                    results[found++] = id;
+                }
+            }
+        }
+        if (found > 1)
+            Arrays.sort(results, 0, found);
+        return found;
+    }
+
+    /** Backing array of the last query; valid up to the count it returned. */
+    public int[] results() {
+        return results;
+    }
+
+    private int col(float x) {
+        return clamp((int) Math.floor(x / cellSize), cols);
+    }
+
+    private int row(float y) {
+        return clamp((int) Math.floor(y / cellSize), rows);
+    }
+
+    private static int clamp(int v, int n) {
+        return v < 0 ? 0 : (v >= n ? n - 1 : v);
+    }
+}
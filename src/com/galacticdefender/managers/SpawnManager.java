@@ -1,6 +1,9 @@
 package com.galacticdefender.managers;
 
 import com.galacticdefender.objects.*;
+import com.galacticdefender.utils.Constants;
+import com.galacticdefender.utils.GameClock;
+import com.galacticdefender.utils.GameRandom;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -8,74 +11,104 @@ import java.util.Random;
 
 /**
  * Controls when and where enemies and power-ups spawn.
- * Tracks wave timers and current level, producing new GameObjects to add.
+ * Plays the current level's WaveScript timeline on the simulation clock,
+ * so waves pause with the game. A cursor marks the next event: each step
+ * only looks at events that have fallen due, however large the waves.
  * Demonstrates the use of Random, timers, and level-aware logic.
  */
 public class SpawnManager {
 
-    private float waveTimer = 0f;
-    private float waveInterval = 6.0f; // seconds between waves
-    private int waveCount = 0;
-    private final Random rng = new Random();
+    private final GameClock clock;
+    private final WaveScript script;
+    private final Random rng = GameRandom.get();
 
-    // Spawn locations across the top
-    private static final float[] SPAWN_X = { 60, 200, 400, 600, 800 };
+    // ── Cursor into the current level's timeline ──────────────
+    private int level;
+    private WaveScript.Timeline timeline;
+    private long levelStart; // clock.nanos() when the level began
+    private int introNext, loopNext;
+    private long loopBase;   // ns from levelStart of the current loop iteration
+
+    public SpawnManager(GameClock clock) {
+        this(clock, WaveScript.load(Constants.WAVES_FILE));
+    }
+
+    public SpawnManager(GameClock clock, WaveScript script) {
+        this.clock = clock;
+        this.script = script;
+        reset();
+    }
 
     public void reset() {
-        waveTimer = 0;
-        waveCount = 0;
+        startLevel(1);
+    }
+
+    private void startLevel(int level) {
+        this.level = level;
+        timeline = script.level(level);
+        levelStart = clock.nanos();
+        introNext = 0;
+        loopNext = 0;
+        loopBase = timeline.loopStart;
     }
 
     /**
-     * Called every frame. Returns a list of new objects to add to the game world.
+     * Called every step. Returns a list of new objects to add to the game world.
+     * A level change restarts the timeline at that level's intro.
      * 
-     * @param dt    Elapsed time since last frame (seconds).
      * @param level Current game level (1-3).
      */
-    public List<GameObject> update(float dt, int level) {
-        List<GameObject> spawned = new ArrayList<>();
-        waveTimer += dt;
-        if (waveTimer < waveInterval)
-            return spawned;
+    public List<GameObject> update(int level) {
+        if (level != this.level)
+            startLevel(level);
 
-        waveTimer = 0;
-        waveCount++;
-        spawned.addAll(spawnWave(level));
-        // Randomly drop a power-up every 3 waves
-        if (waveCount % 3 == 0)
-            spawned.add(spawnPowerUp());
-        return spawned;
-    }
-
-    private List<GameObject> spawnWave(int level) {
-        List<GameObject> wave = new ArrayList<>();
-        int count = 2 + level; // more enemies at higher levels
-
-        // Level 3: spawn a boss after wave 1 (waveCount == 1 handled outside)
-        if (level == 3 && waveCount == 1) {
-            wave.add(new BossEnemy(400, -140));
-            return wave;
-        }
-
-        for (int i = 0; i < count; i++) {
-            float sx = SPAWN_X[rng.nextInt(SPAWN_X.length)] + rng.nextInt(40) - 20;
-            if (level == 1) {
-                wave.add(new BasicEnemy(sx, -80));
+        WaveScript.Timeline tl = timeline;
+        long now = clock.nanos() - levelStart;
+        List<GameObject> spawned = null;
+        while (true) {
+            long intro = introNext < tl.intro.length ? tl.introAt[introNext] : Long.MAX_VALUE;
+            long loop = tl.loop.length > 0 ? loopBase + tl.loopAt[loopNext] : Long.MAX_VALUE;
+            if (Math.min(intro, loop) > now)
+                break;
+            if (spawned == null)
+                spawned = new ArrayList<>();
+            if (intro <= loop) {
+                spawned.add(create(tl.intro[introNext++]));
             } else {
-                // Level 2+: mix of basic and fast
-                wave.add(rng.nextBoolean() ? new BasicEnemy(sx, -80) : new FastEnemy(sx, -80));
+                spawned.add(create(tl.loop[loopNext++]));
+                if (loopNext == tl.loop.length) {
+                    loopNext = 0;
+                    loopBase += tl.period;
+                }
             }
         }
-        return wave;
+        return spawned != null ? spawned : List.of();
     }
 
-    private PowerUp spawnPowerUp() {
-        float px = 100 + rng.nextInt(700);
-        int type = rng.nextInt(3);
-        return switch (type) {
-            case 0 -> new DoubleBulletPowerUp(px, -50);
-            case 1 -> new ShieldPowerUp(px, -50);
-            default -> new SpeedBoostPowerUp(px, -50);
+    private GameObject create(WaveScript.Event e) {
+        float x = switch (e.place) {
+            case WaveScript.COLUMN -> {
+                float[] cols = script.columns();
+                float cx = cols[rng.nextInt(cols.length)];
+                yield e.jitter > 0 ? cx + rng.nextInt(e.jitter * 2) - e.jitter : cx;
+            }
+            case WaveScript.SPAN -> e.x + rng.nextInt((int) (e.x2 - e.x)); // width >= 1, checked at load
+            default -> e.x;
+        };
+        float y = e.y;
+        return switch (e.kind) {
+            case WaveScript.BASIC -> new BasicEnemy(x, y);
+            case WaveScript.FAST -> new FastEnemy(x, y);
+            case WaveScript.BOSS -> new BossEnemy(x, y);
+            case WaveScript.MIXED -> rng.nextBoolean() ? new BasicEnemy(x, y) : new FastEnemy(x, y);
+            case WaveScript.DOUBLE -> new DoubleBulletPowerUp(x, y);
+            case WaveScript.SHIELD -> new ShieldPowerUp(x, y);
+            case WaveScript.SPEED -> new SpeedBoostPowerUp(x, y);
+            default -> switch (rng.nextInt(3)) {
+                case 0 -> new DoubleBulletPowerUp(x, y);
+                case 1 -> new ShieldPowerUp(x, y);
+                default -> new SpeedBoostPowerUp(x, y);
+            };
         };
     }
 }
@@ -0,0 +1,443 @@
+package com.galacticdefender.managers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.zip.CRC32;
+
+/**
+ * Crash-safe persistent store for run statistics and the high-score table.
+ *
+ * Backed by an append-only log in a memory-mapped file. Every record is
+ * length-prefixed and checksummed:
+ * <pre>
+ *   header: int MAGIC 'GDST', byte VERSION, long generation
+ *   record: int n, byte type, (n - 1) payload bytes, int CRC32(type + payload)
+ *   end:    int 0 (the mapped region past the last record is zero-filled)
+ * </pre>
+ * A RUN record is a snapshot of one game; later snapshots of the same run
+ * supersede earlier ones, so a game is checkpointed while it is played and
+ * a crash loses only the last few seconds. A TOTALS record carries the
+ * aggregates of runs folded away by compaction.
+ *
+ * The game thread only updates the in-memory view and queues the record;
+ * a writer thread appends queued records in batches and forces each batch
+ * to disk. When the log has doubled since the last compaction the writer
+ * rewrites it (TOTALS + the top and most recent runs) into the other of two
+ * files, FILE and FILE.1, with the next generation number. That header is
+ * written last, so the rewrite only takes over once it is complete; no file
+ * is ever renamed, truncated or replaced while mapped. Opening picks the
+ * file with the highest valid generation, scans it and cuts it at the first
+ * torn or corrupt record.
+ */
+public class StatsStore implements AutoCloseable {
+
+    /** One game as last recorded. finished is false while it is being played (or if it crashed). */
+    public record Run(long id, long startedMillis, int score, int level,
+            int kills, int shots, int hits, boolean finished) {
+        /** Fraction of shots fired that hit an enemy. */
+        public float accuracy() {
+            return shots == 0 ? 0f : (float) hits / shots;
+        }
+    }
+
+    /** Aggregates over many runs. */
+    public record Totals(long runs, long kills, long shots, long hits, int bestLevel, int bestScore) {
+        static final Totals NONE = new Totals(0, 0, 0, 0, 0, 0);
+
+        Totals plus(Run r) {
+            return new Totals(runs + 1, kills + r.kills(), shots + r.shots(), hits + r.hits(),
+                    Math.max(bestLevel, r.level()), Math.max(bestScore, r.score()));
+        }
+
+        Totals plus(Totals t) {
+            return new Totals(runs + t.runs, kills + t.kills, shots + t.shots, hits + t.hits,
+                    Math.max(bestLevel, t.bestLevel), Math.max(bestScore, t.bestScore));
+        }
+    }
+
+    static final int MAGIC = 0x47445354; // "GDST"
+    static final byte VERSION = 1;
+    static final byte TYPE_RUN = 1, TYPE_TOTALS = 2;
+
+    private static final int HEADER = 4 + 1 + 8;
+    private static final int RUN_BYTES = 8 + 8 + 4 * 5 + 1, TOTALS_BYTES = 8 * 4 + 4 * 2;
+    private static final int MIN_CAPACITY = 64 * 1024;
+    private static final int COMPACT_MIN = 64 * 1024; // bytes of log before compaction is considered
+
+    /** Runs kept by compaction: the best by score, and the latest. */
+    public static final int TOP_RUNS = 10, RECENT_RUNS = 50;
+
+    private static final Run CLOSE = new Run(-1, 0, 0, 0, 0, 0, 0, true);
+
+    private final Path[] files; // the two generations: FILE, FILE.1
+
+    // ── Game-thread view ──────────────────────────────────────
+    private final Map<Long, Run> runs = new LinkedHashMap<>();
+    private Totals compacted;
+    private long nextId;
+
+    // ── Writer thread ─────────────────────────────────────────
+    private final BlockingQueue<Run> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private final Map<Long, Run> logged; // latest record per run in the log
+    private Totals loggedTotals;
+    private int active;       // index in files of the live log
+    private long generation;  // of the live log
+    private FileChannel channel;
+    private MappedByteBuffer map;
+    private int end;          // offset of the end marker
+    private int compactAt;    // log size that triggers the next compaction
+    private final ByteBuffer scratch = ByteBuffer.allocate(4 + 1 + TOTALS_BYTES + 4);
+    private final CRC32 crc = new CRC32();
+    private boolean closed;
+
+    private StatsStore(Path file) throws IOException {
+        files = new Path[] { file, file.resolveSibling(file.getFileName() + ".1") };
+        recover();
+        logged = new LinkedHashMap<>(runs);
+        loggedTotals = compacted;
+        for (long id : runs.keySet())
+            nextId = Math.max(nextId, id + 1);
+        compactAt = Math.max(COMPACT_MIN, end * 2);
+
+        writer = new Thread(this::writeLoop, "StatsStore-Writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /** Open (creating if needed) and recover the store at file. */
+    public static StatsStore open(Path file) throws IOException {
+        return new StatsStore(file);
+    }
+
+    // ── Game-thread API ───────────────────────────────────────
+
+    /** Id for a new run. */
+    public long nextRunId() {
+        return nextId++;
+    }
+
+    /** Record a snapshot of a run. Returns at once; the write happens on the writer thread. */
+    public void record(Run run) {
+        runs.put(run.id(), run);
+        nextId = Math.max(nextId, run.id() + 1);
+        queue.add(run);
+    }
+
+    /** True when nothing has ever been recorded. */
+    public boolean isEmpty() {
+        return runs.isEmpty() && compacted.runs() == 0;
+    }
+
+    public int getHighScore() {
+        int best = compacted.bestScore();
+        for (Run r : runs.values())
+            best = Math.max(best, r.score());
+        return best;
+    }
+
+    /** The high-score table: up to n runs, best first. */
+    public List<Run> topRuns(int n) {
+        return runs.values().stream()
+                .sorted(Comparator.comparingInt(Run::score).reversed().thenComparingLong(Run::id))
+                .limit(n).toList();
+    }
+
+    /** Up to n runs, latest first. */
+    public List<Run> recentRuns(int n) {
+        List<Run> all = new ArrayList<>(runs.values());
+        all.sort(Comparator.comparingLong(Run::id).reversed());
+        return all.subList(0, Math.min(n, all.size()));
+    }
+
+    /** Aggregates over every run ever recorded. */
+    public Totals totals() {
+        Totals t = compacted;
+        for (Run r : runs.values())
+            t = t.plus(r);
+        return t;
+    }
+
+    /**
+     * Import a score from the old single-integer high-score file into an
+     * empty store, then rename the file so it is not imported again.
+     */
+    public void migrateHighScore(Path legacy) {
+        if (!isEmpty() || !Files.exists(legacy))
+            return;
+        try {
+            int score = Integer.parseInt(Files.readString(legacy).trim());
+            long when = Files.getLastModifiedTime(legacy).toMillis();
+            record(new Run(nextRunId(), when, score, 0, 0, 0, 0, true));
+            Files.move(legacy, legacy.resolveSibling(legacy.getFileName() + ".migrated"),
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | NumberFormatException e) {
+            System.err.println("[StatsStore] Could not migrate " + legacy + ": " + e.getMessage());
+        }
+    }
+
+    /** Write everything queued, force it to disk and stop the writer. Safe to call twice. */
+    @Override
+    public void close() {
+        if (!writer.isAlive())
+            return;
+        queue.add(CLOSE);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ── Recovery ──────────────────────────────────────────────
+
+    private void recover() throws IOException {
+        compacted = Totals.NONE;
+        long gen0 = generationOf(files[0]), gen1 = generationOf(files[1]);
+        active = gen1 > gen0 ? 1 : 0;
+        generation = Math.max(gen0, gen1);
+        channel = FileChannel.open(files[active], StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE / 2)
+            throw new IOException("Stats file too large: " + size);
+        if (generation <= 0) {
+            if (size > 0)
+                System.err.println("[StatsStore] " + files[active] + " is not a stats log; starting a new one");
+            mapAtLeast((int) size + 4);
+            for (int i = 0; i < size; i++)
+                map.put(i, (byte) 0);
+            generation = 1;
+            writeHeader(map, generation);
+            end = HEADER;
+            map.force();
+            return;
+        }
+
+        mapAtLeast((int) size);
+        int pos = HEADER;
+        while (true) {
+            int next = readRecord(pos, (int) size);
+            if (next <= 0) {
+                if (next < 0)
+                    System.err.println("[StatsStore] Dropped torn or corrupt tail at offset " + pos);
+                break;
+            }
+            pos = next;
+        }
+        end = pos;
+        // Zero the torn bytes so the log ends at the last good record
+        for (int i = end; i < size; i++)
+            map.put(i, (byte) 0);
+        if (end + 4 > map.capacity())
+            mapAtLeast(end + 4);
+        map.force();
+    }
+
+    /** Generation in the header of file; 0 if it is missing or not a complete stats log. */
+    private static long generationOf(Path file) throws IOException {
+        if (!Files.isRegularFile(file))
+            return 0;
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer h = ByteBuffer.allocate(HEADER);
+            ch.read(h, 0);
+            if (h.position() < HEADER || h.getInt(0) != MAGIC || h.get(4) != VERSION)
+                return 0;
+            return Math.max(0, h.getLong(5));
+        }
+    }
+
+    /** Magic last: a header cut short by a crash reads as invalid, not as a new generation. */
+    private static void writeHeader(MappedByteBuffer m, long gen) {
+        m.putLong(5, gen).put(4, VERSION).putInt(0, MAGIC);
+    }
+
+    /** Apply the record at pos; returns the next offset, 0 at the end marker, -1 if torn. */
+    private int readRecord(int pos, int limit) {
+        if (pos + 4 > limit)
+            return 0;
+        int n = map.getInt(pos);
+        if (n == 0)
+            return 0;
+        if (n < 1 || pos + 4L + n + 4 > limit)
+            return -1;
+        crc.reset();
+        crc.update(map.slice(pos + 4, n));
+        if ((int) crc.getValue() != map.getInt(pos + 4 + n))
+            return -1;
+
+        ByteBuffer p = map.slice(pos + 5, n - 1);
+        switch (map.get(pos + 4)) {
+            case TYPE_RUN -> {
+                if (p.remaining() < RUN_BYTES)
+                    return -1;
+                Run r = new Run(p.getLong(), p.getLong(), p.getInt(), p.getInt(), p.getInt(),
+                        p.getInt(), p.getInt(), p.get() != 0);
+                runs.put(r.id(), r);
+            }
+            case TYPE_TOTALS -> {
+                if (p.remaining() < TOTALS_BYTES)
+                    return -1;
+                compacted = compacted.plus(new Totals(p.getLong(), p.getLong(), p.getLong(),
+                        p.getLong(), p.getInt(), p.getInt()));
+            }
+            default -> {
+                /* unknown type from a newer version: skip */ }
+        }
+        return pos + 4 + n + 4;
+    }
+
+    // ── Writer thread ─────────────────────────────────────────
+
+    private void writeLoop() {
+        List<Run> batch = new ArrayList<>();
+        while (!closed) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch);
+            try {
+                for (Run r : batch) {
+                    if (r == CLOSE) {
+                        closed = true;
+                        continue;
+                    }
+                    logged.put(r.id(), r);
+                    if (end + scratch.capacity() + 4 > map.capacity())
+                        mapAtLeast(end + scratch.capacity() + 4);
+                    end = put(map, end, r, null);
+                }
+                map.force();
+                if (end >= compactAt)
+                    compact();
+            } catch (IOException e) {
+                System.err.println("[StatsStore] Write failed: " + e.getMessage());
+            }
+            batch.clear();
+        }
+        try {
+            map.force();
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("[StatsStore] " + e.getMessage());
+        }
+    }
+
+    /**
+     * Write a RUN (or, with run null, a TOTALS) record into m at offset at;
+     * returns the offset after it. The caller makes sure it fits.
+     */
+    private int put(MappedByteBuffer m, int at, Run run, Totals totals) {
+        ByteBuffer b = scratch.clear();
+        b.position(4);
+        if (run != null) {
+            b.put(TYPE_RUN).putLong(run.id()).putLong(run.startedMillis()).putInt(run.score())
+                    .putInt(run.level()).putInt(run.kills()).putInt(run.shots()).putInt(run.hits())
+                    .put((byte) (run.finished() ? 1 : 0));
+        } else {
+            b.put(TYPE_TOTALS).putLong(totals.runs()).putLong(totals.kills()).putLong(totals.shots())
+                    .putLong(totals.hits()).putInt(totals.bestLevel()).putInt(totals.bestScore());
+        }
+        int n = b.position() - 4;
+        crc.reset();
+        crc.update(b.array(), 4, n);
+        b.putInt((int) crc.getValue());
+        b.putInt(0, n);
+
+        int len = b.position();
+        m.put(at, b.array(), 0, len);
+        return at + len;
+    }
+
+    /**
+     * Rewrite the log as TOTALS plus the retained runs into the other
+     * generation file. The live log and every field stay as they are until
+     * the new file is complete; if anything fails, appends go on as before.
+     */
+    private void compact() throws IOException {
+        compactAt = Math.max(COMPACT_MIN, end * 2); // back off if this attempt fails
+        Collection<Run> all = logged.values();
+        List<Run> keep = new ArrayList<>();
+        all.stream().sorted(Comparator.comparingInt(Run::score).reversed()).limit(TOP_RUNS).forEach(keep::add);
+        all.stream().sorted(Comparator.comparingLong(Run::id).reversed()).limit(RECENT_RUNS)
+                .filter(r -> !keep.contains(r)).forEach(keep::add);
+        keep.sort(Comparator.comparingLong(Run::id));
+
+        Totals folded = loggedTotals;
+        for (Run r : all)
+            if (!keep.contains(r))
+                folded = folded.plus(r);
+
+        int next = 1 - active;
+        FileChannel ch = FileChannel.open(files[next], StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        MappedByteBuffer m;
+        int e = HEADER;
+        try {
+            long size = ch.size();
+            if (size > Integer.MAX_VALUE / 2)
+                throw new IOException("Stats file too large: " + size);
+            int need = HEADER + (keep.size() + 1) * scratch.capacity() + 4;
+            m = ch.map(FileChannel.MapMode.READ_WRITE, 0, capacityFor(Math.max(need, (int) size)));
+            m.putInt(0, 0); // invalid until the rewrite is complete
+            m.force();
+            if (folded.runs() > 0)
+                e = put(m, e, null, folded);
+            for (Run r : keep)
+                e = put(m, e, r, null);
+            for (int i = e; i < m.capacity(); i++)
+                m.put(i, (byte) 0); // stale records of an older generation
+            m.force();
+            writeHeader(m, generation + 1);
+            m.force();
+        } catch (IOException | RuntimeException ex) {
+            ch.close();
+            throw ex;
+        }
+
+        // The new generation is the log now
+        FileChannel old = channel;
+        channel = ch;
+        map = m;
+        end = e;
+        active = next;
+        generation++;
+        logged.clear();
+        for (Run r : keep)
+            logged.put(r.id(), r);
+        loggedTotals = folded;
+        compactAt = Math.max(COMPACT_MIN, end * 2);
+        old.close();
+    }
+
+    /** (Re)map the file with room for at least bytes, growing it in powers of two. */
+    private void mapAtLeast(int bytes) throws IOException {
+        int capacity = map == null ? MIN_CAPACITY : map.capacity();
+        while (capacity < bytes)
+            capacity *= 2;
+        map = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    }
+
+    private static int capacityFor(int bytes) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < bytes)
+            capacity *= 2;
+        return capacity;
+    }
+}
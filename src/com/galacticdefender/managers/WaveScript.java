@@ -0,0 +1,281 @@
+package com.galacticdefender.managers;
+
+import com.galacticdefender.utils.Json;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Wave definitions loaded from JSON (assets/waves/waves.json) and compiled
+ * into one sorted spawn timeline per level, which SpawnManager walks with
+ * a cursor.
+ *
+ * <pre>
+ * {
+ *   "columns": [60, 200, 400, 600, 800],      spawn columns for "columns" formations
+ *   "levels": [                               one entry per level, in order; the last
+ *     {                                       one also covers every level after it
+ *       "intro":     [ event, ... ],          played once when the level starts
+ *       "loopStart": 6,                       s after the level starts (default 0)
+ *       "period":    18,                      s per loop iteration
+ *       "loop":      [ event, ... ]           repeated every period, forever
+ *     }
+ *   ]
+ * }
+ *
+ * event:
+ *   "at"          s from the start of the intro / loop iteration (0..period)
+ *   "spawn"       basic | fast | boss | mixed (basic or fast)
+ *                 | double | shield | speed | powerup (any of the three)
+ *   "count"       members (default 1)
+ *   "formation"   point   – all at x
+ *                 columns – each at a random column ± jitter (default 20)
+ *                 line    – evenly spaced from x to x2
+ *                 v       – wedge with its tip at x, "spacing" px apart, "depth" px back
+ *                 random  – uniform in [x, x2)
+ *   "x", "x2", "y", "jitter", "spacing", "depth"
+ *   "every"       s between members (default 0: all at once)
+ *   "repeat"      copies of the whole group (default 1), "repeatEvery" s apart
+ * </pre>
+ *
+ * Everything except random positions and mixed types is resolved here, so a
+ * 1,000-enemy wave costs nothing until its events fall due.
+ */
+public final class WaveScript {
+
+    // ── Compiled form ─────────────────────────────────────────
+
+    static final byte BASIC = 0, FAST = 1, BOSS = 2, MIXED = 3,
+            DOUBLE = 4, SHIELD = 5, SPEED = 6, POWERUP = 7;
+    private static final List<String> KINDS =
+            List.of("basic", "fast", "boss", "mixed", "double", "shield", "speed", "powerup");
+
+    static final byte FIXED = 0, COLUMN = 1, SPAN = 2;
+
+    /** One spawned object: what, and where (resolved at spawn time for COLUMN / SPAN). */
+    static final class Event {
+        final byte kind, place;
+        final float x, x2, y;
+        final int jitter;
+
+        Event(byte kind, byte place, float x, float x2, float y, int jitter) {
+            this.kind = kind;
+            this.place = place;
+            this.x = x;
+            this.x2 = x2;
+            this.y = y;
+            this.jitter = jitter;
+        }
+    }
+
+    /** A level's events sorted by time (ns from the level / loop iteration start). */
+    static final class Timeline {
+        static final Timeline EMPTY = new Timeline(new long[0], new Event[0], 0, 0, new long[0], new Event[0]);
+
+        final long[] introAt;
+        final Event[] intro;
+        final long loopStart, period;
+        final long[] loopAt;
+        final Event[] loop;
+
+        Timeline(long[] introAt, Event[] intro, long loopStart, long period, long[] loopAt, Event[] loop) {
+            this.introAt = introAt;
+            this.intro = intro;
+            this.loopStart = loopStart;
+            this.period = period;
+            this.loopAt = loopAt;
+            this.loop = loop;
+        }
+    }
+
+    /** No waves at all (used when the file cannot be read). */
+    public static final WaveScript EMPTY = new WaveScript(new float[0], new Timeline[0]);
+
+    private final float[] columns;
+    private final Timeline[] levels;
+
+    private WaveScript(float[] columns, Timeline[] levels) {
+        this.columns = columns;
+        this.levels = levels;
+    }
+
+    float[] columns() {
+        return columns;
+    }
+
+    /** Timeline for level (1-based); levels past the last defined reuse it. */
+    Timeline level(int level) {
+        if (levels.length == 0)
+            return Timeline.EMPTY;
+        return levels[Math.max(0, Math.min(level, levels.length) - 1)];
+    }
+
+    /** Total events in every level's intro and one loop iteration. */
+    public int eventCount() {
+        int n = 0;
+        for (Timeline t : levels)
+            n += t.intro.length + t.loop.length;
+        return n;
+    }
+
+    // ── Loading ───────────────────────────────────────────────
+
+    /** Read and compile a wave file; logs and returns EMPTY if it is missing or invalid. */
+    public static WaveScript load(String path) {
+        try {
+            return compile(Json.parse(Files.readString(Path.of(path))));
+        } catch (IOException e) {
+            System.err.println("[WaveScript] Could not read " + path + ": " + e.getMessage());
+        } catch (IllegalArgumentException | ClassCastException e) {
+            System.err.println("[WaveScript] " + path + ": " + e.getMessage());
+        }
+        return EMPTY;
+    }
+
+    /** Compile a parsed wave document (see the class comment for the format). */
+    public static WaveScript compile(Object doc) {
+        Map<String, Object> root = asObject(doc, "document");
+        List<Object> cols = list(root, "columns");
+        float[] columns = new float[cols.size()];
+        for (int i = 0; i < columns.length; i++)
+            columns[i] = ((Number) cols.get(i)).floatValue();
+
+        List<Object> lv = list(root, "levels");
+        Timeline[] levels = new Timeline[lv.size()];
+        for (int i = 0; i < levels.length; i++) {
+            try {
+                levels[i] = compileLevel(asObject(lv.get(i), "level"), columns.length > 0);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("level " + (i + 1) + ": " + e.getMessage());
+            }
+        }
+        return new WaveScript(columns, levels);
+    }
+
+    private static Timeline compileLevel(Map<String, Object> level, boolean haveColumns) {
+        List<Due> intro = new ArrayList<>();
+        for (Object e : list(level, "intro"))
+            expand(asObject(e, "event"), Double.MAX_VALUE, haveColumns, intro);
+
+        double period = num(level, "period", 0);
+        List<Object> loopDefs = list(level, "loop");
+        if (!loopDefs.isEmpty() && period <= 0)
+            throw new IllegalArgumentException("loop needs a period > 0");
+        List<Due> loop = new ArrayList<>();
+        for (Object e : loopDefs)
+            expand(asObject(e, "event"), period, haveColumns, loop);
+
+        // Stable: events at the same instant keep file order
+        intro.sort(Comparator.comparingLong(Due::at));
+        loop.sort(Comparator.comparingLong(Due::at));
+        return new Timeline(times(intro), events(intro), nanos(num(level, "loopStart", 0)),
+                nanos(period), times(loop), events(loop));
+    }
+
+    /** One object at one time. */
+    private record Due(long at, Event event) {
+    }
+
+    /** Unroll an event definition (count × repeat) into single spawns. */
+    private static void expand(Map<String, Object> def, double limit, boolean haveColumns, List<Due> out) {
+        String spawn = str(def, "spawn", null);
+        int kind = KINDS.indexOf(spawn);
+        if (kind < 0)
+            throw new IllegalArgumentException("unknown spawn '" + spawn + "'");
+        boolean powerUp = kind >= DOUBLE;
+
+        int count = (int) num(def, "count", 1);
+        double at = num(def, "at", 0), every = num(def, "every", 0);
+        int repeat = (int) num(def, "repeat", 1);
+        double repeatEvery = num(def, "repeatEvery", 0);
+        float x = (float) num(def, "x", 400), x2 = (float) num(def, "x2", x);
+        float y = (float) num(def, "y", kind == BOSS ? -140 : powerUp ? -50 : -80);
+        int jitter = (int) num(def, "jitter", 20);
+        float spacing = (float) num(def, "spacing", 60), depth = (float) num(def, "depth", 40);
+        String formation = str(def, "formation", "point");
+        if (formation.equals("columns") && !haveColumns)
+            throw new IllegalArgumentException("columns formation but no columns defined");
+        if (formation.equals("random") && x2 - x < 1)
+            throw new IllegalArgumentException("random formation needs x2 at least 1 px past x (x " + x
+                    + ", x2 " + x2 + ")");
+
+        for (int r = 0; r < repeat; r++) {
+            for (int i = 0; i < count; i++) {
+                double t = at + r * repeatEvery + i * every;
+                if (t < 0 || t > limit)
+                    throw new IllegalArgumentException("'" + spawn + "' at " + t + " s is outside 0.." + limit);
+                Event e = switch (formation) {
+                    case "point" -> new Event((byte) kind, FIXED, x, x, y, 0);
+                    case "columns" -> new Event((byte) kind, COLUMN, 0, 0, y, jitter);
+                    case "random" -> new Event((byte) kind, SPAN, x, x2, y, 0);
+                    case "line" -> {
+                        float lx = count == 1 ? (x + x2) / 2 : x + (x2 - x) * i / (count - 1);
+                        yield new Event((byte) kind, FIXED, lx, lx, y, 0);
+                    }
+                    case "v" -> {
+                        int rank = (i + 1) / 2, side = i % 2 == 1 ? -1 : 1;
+                        yield new Event((byte) kind, FIXED, x + side * rank * spacing, 0, y - rank * depth, 0);
+                    }
+                    default -> throw new IllegalArgumentException("unknown formation '" + formation + "'");
+                };
+                out.add(new Due(nanos(t), e));
+            }
+        }
+    }
+
+    // ── JSON helpers ──────────────────────────────────────────
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asObject(Object v, String what) {
+        if (!(v instanceof Map))
+            throw new IllegalArgumentException(what + " must be an object");
+        return (Map<String, Object>) v;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> list(Map<String, Object> obj, String key) {
+        Object v = obj.get(key);
+        if (v == null)
+            return List.of();
+        if (!(v instanceof List))
+            throw new IllegalArgumentException("'" + key + "' must be an array");
+        return (List<Object>) v;
+    }
+
+    private static double num(Map<String, Object> obj, String key, double def) {
+        Object v = obj.get(key);
+        if (v == null)
+            return def;
+        if (!(v instanceof Number n))
+            throw new IllegalArgumentException("'" + key + "' must be a number");
+        return n.doubleValue();
+    }
+
+    private static String str(Map<String, Object> obj, String key, String def) {
+        Object v = obj.get(key);
+        return v == null ? def : v.toString();
+    }
+
+    private static long nanos(double seconds) {
+        return Math.round(seconds * 1_000_000_000L);
+    }
+
+    private static long[] times(List<Due> due) {
+        long[] a = new long[due.size()];
+        for (int i = 0; i < a.length; i++)
+            a[i] = due.get(i).at();
+        return a;
+    }
+
+    private static Event[] events(List<Due> due) {
+        Event[] a = new Event[due.size()];
+        for (int i = 0; i < a.length; i++)
+            a[i] = due.get(i).event();
+        return a;
+    }
+}
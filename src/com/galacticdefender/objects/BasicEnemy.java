@@ -1,31 +1,17 @@
 package com.galacticdefender.objects;
 
-import com.galacticdefender.engine.ResourceLoader;
-import com.galacticdefender.utils.Constants;
-
-import java.awt.image.BufferedImage;
-
 /**
  * Slow melee-range enemy that walks toward the player.
  */
 public class BasicEnemy extends Enemy {
 
-    private static final int W = 55, H = 70;
+    static final int W = 55, H = 70;
     private static final float SPEED = 80f;
-    private static BufferedImage cachedSprite;
 
     public BasicEnemy(float x, float y) {
         super(x, y, W, H, 50, 15, 100, 3.0f);
 
-        if (cachedSprite == null) {
-            BufferedImage raw = ResourceLoader.loadImage(Constants.IMG_ENEMY_BASIC);
-
-        if (raw != null) {
-            cachedSprite = ResourceLoader.scaleImage(raw, W, H);
-        }
-        }
-
-        this.sprite = cachedSprite;
+        this.sprite = Sprites.BASIC_ENEMY;
     }
 
     @Override
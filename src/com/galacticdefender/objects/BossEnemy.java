@@ -1,34 +1,24 @@
 package com.galacticdefender.objects;
 
-import com.galacticdefender.engine.ResourceLoader;
+import com.galacticdefender.engine.Renderer;
 import com.galacticdefender.utils.Constants;
 
 import java.awt.*;
-import java.awt.image.BufferedImage;
 
 /**
  * Level 3 boss enemy.
  */
 public class BossEnemy extends Enemy {
 
-    private static final int W = 110, H = 130;
+    static final int W = 110, H = 130;
     private static final float SPEED = 60f;
-    private static BufferedImage cachedSprite;
 
     private float patrolTimer = 0f;
 
     public BossEnemy(float x, float y) {
         super(x, y, W, H, 500, 25, 1000, 0.9f);
 
-        if (cachedSprite == null) {
-            BufferedImage raw = ResourceLoader.loadImage(Constants.IMG_ENEMY_BASIC);
-
-        if (raw != null) {
-            cachedSprite = ResourceLoader.scaleImage(raw, W, H);
-        }
-        }
-
-        this.sprite = cachedSprite;
+        this.sprite = Sprites.BOSS_ENEMY;
         this.velX = SPEED;
         this.facingRight = false;
     }
@@ -44,33 +34,46 @@ public class BossEnemy extends Enemy {
         }
     }
 
+    /** The boss bar is drawn at a fixed spot on screen, so never cull the boss. */
     @Override
-    protected void renderSprite(Graphics2D g) {
-        super.renderSprite(g);
-
-        int bx = 50, by = 14, bw = Constants.WINDOW_WIDTH - 100, bh = 14;
-
-        g.setColor(new Color(30, 10, 10, 210));
-        g.fillRoundRect(bx, by, bw, bh, 6, 6);
-
-        int fill = (int)((float)health / maxHealth * bw);
-
-        GradientPaint gp = new GradientPaint(
-                bx, 0, new Color(220,30,30),
-                bx + fill, 0, new Color(255,100,40));
+    public int getCullMargin() {
+        return Constants.WINDOW_WIDTH + Constants.WINDOW_HEIGHT;
+    }
 
-        Paint prev = g.getPaint();
-        g.setPaint(gp);
-        g.fillRoundRect(bx, by, fill, bh, 6, 6);
-        g.setPaint(prev);
+    @Override
+    protected void renderSprite(Renderer r) {
+        super.renderSprite(r);
 
-        g.setColor(new Color(255,80,80));
-        g.drawRoundRect(bx, by, bw, bh, 6, 6);
+        // Screen-space boss bar: stamped frame, with the fill revealed up to health
+        int fill = (int) ((float) health / maxHealth * BAR_W);
+        Bar.BACK.draw(r, BAR_X, BAR_Y);
+        if (fill > 0)
+            r.imageRegion(Bar.FILL.image(), BAR_X - 1, BAR_Y - 1, 0, 0, fill + 1, BAR_H + 2);
+        Bar.EDGE.draw(r, BAR_X, BAR_Y);
 
-        g.setColor(Color.WHITE);
-        g.setFont(new Font("Consolas", Font.BOLD, 11));
+        r.text("BOSS  " + health + "/" + maxHealth, BAR_X + 6, BAR_Y + BAR_H - 2, BAR_FONT, Color.WHITE);
+    }
 
-        String txt = "BOSS  " + health + "/" + maxHealth;
-        g.drawString(txt, bx + 6, by + bh - 2);
+    private static final int BAR_X = 50, BAR_Y = 14, BAR_W = Constants.WINDOW_WIDTH - 100, BAR_H = 14;
+    private static final Font BAR_FONT = new Font("Consolas", Font.BOLD, 11);
+
+    /**
+     * Boss bar pieces, rasterised on first render. The fill is one
+     * full-width gradient of which only the health fraction is drawn.
+     */
+    private static final class Bar {
+        static final StampCache.Stamp BACK = StampCache.render(BAR_W + 2, BAR_H + 2, 1, 1, g -> {
+            g.setColor(new Color(30, 10, 10, 210));
+            g.fillRoundRect(0, 0, BAR_W, BAR_H, 6, 6);
+        });
+        static final StampCache.Stamp FILL = StampCache.render(BAR_W + 2, BAR_H + 2, 1, 1, g -> {
+            g.setPaint(new GradientPaint(0, 0, new Color(220, 30, 30),
+                    BAR_W, 0, new Color(255, 100, 40)));
+            g.fillRoundRect(0, 0, BAR_W, BAR_H, 6, 6);
+        });
+        static final StampCache.Stamp EDGE = StampCache.render(BAR_W + 2, BAR_H + 2, 1, 1, g -> {
+            g.setColor(new Color(255, 80, 80));
+            g.drawRoundRect(0, 0, BAR_W, BAR_H, 6, 6);
+        });
     }
-}
\ No newline at end of file
+}
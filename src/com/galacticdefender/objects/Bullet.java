@@ -1,7 +1,9 @@
 package com.galacticdefender.objects;
 
+import com.galacticdefender.engine.Renderer;
 import com.galacticdefender.utils.Collidable;
 import com.galacticdefender.utils.Constants;
+import com.galacticdefender.utils.ObjectPool;
 
 import java.awt.*;
 
@@ -9,18 +11,56 @@ import java.awt.*;
  * A projectile fired by either the player or an enemy.
  * Implements Collidable – deactivates on first collision.
  * Demonstrates constructor chaining and interface implementation.
+ *
+ * Instances are pooled: obtain() reuses a recycled bullet and the world
+ * hands it back via recycle() once it has been deactivated and removed.
+ * Bullets in flight are simulated by BulletSystem; shooters queue Bullet
+ * instances as shot requests that are drained into it each frame.
  */
 public class Bullet extends GameObject implements Collidable {
 
-    private final boolean friendly; // true = fired by player
-    private final int damage;
+    public static final int WIDTH = 14, HEIGHT = 5;
+    public static final int FRIENDLY_DAMAGE = 25, ENEMY_DAMAGE = 10;
+
+    /** Shared pool; cap can be overridden with -Dgd.pool.bullets=N. */
+    public static final ObjectPool<Bullet> POOL = new ObjectPool<>(
+            () -> new Bullet(0, 0, 0, 0, true),
+            Integer.getInteger("gd.pool.bullets", Constants.BULLET_POOL_CAP));
+
+    private boolean friendly; // true = fired by player
+    private int damage;
+    private boolean pooled;
 
     public Bullet(float x, float y, float velX, float velY, boolean friendly) {
-        super(x, y, 14, 5);
+        super(x, y, WIDTH, HEIGHT);
+        reset(x, y, velX, velY, friendly);
+    }
+
+    /** Take a bullet from the pool (or create one) and initialise it. */
+    public static Bullet obtain(float x, float y, float velX, float velY, boolean friendly) {
+        Bullet b = POOL.acquire();
+        b.pooled = false;
+        b.reset(x, y, velX, velY, friendly);
+        return b;
+    }
+
+    private void reset(float x, float y, float velX, float velY, boolean friendly) {
+        this.x = x;
+        this.y = y;
         this.velX = velX;
         this.velY = velY;
         this.friendly = friendly;
-        this.damage = friendly ? 25 : 10;
+        this.damage = friendly ? FRIENDLY_DAMAGE : ENEMY_DAMAGE;
+        this.active = true;
+        savePrevious();
+    }
+
+    @Override
+    public void recycle() {
+        if (pooled)
+            return;
+        pooled = true;
+        POOL.release(this);
     }
 
     @Override
@@ -34,24 +74,15 @@ public class Bullet extends GameObject implements Collidable {
     }
 
     @Override
-    public void render(Graphics2D g) {
-        Composite old = g.getComposite();
-        if (friendly) {
-            // Gold tracer with soft glow
-            g.setColor(new Color(255, 230, 80, 90));
-            g.fillRoundRect((int) x - 3, (int) y - 3, width + 6, height + 6, 6, 6);
-            g.setColor(new Color(255, 215, 50));
-            g.fillRoundRect((int) x, (int) y, width, height, 4, 4);
-            g.setColor(Color.WHITE);
-            g.fillOval((int) x + width - 4, (int) y, 4, 5);
-        } else {
-            // Red enemy tracer
-            g.setColor(new Color(255, 60, 60, 90));
-            g.fillRoundRect((int) x - 3, (int) y - 3, width + 6, height + 6, 6, 6);
-            g.setColor(new Color(255, 80, 80));
-            g.fillRoundRect((int) x, (int) y, width, height, 4, 4);
-        }
-        g.setComposite(old);
+    public void render(Renderer r) {
+        // Same pre-rendered tracer BulletSystem draws
+        BulletSystem.stamp(friendly).draw(r, (int) x, (int) y);
+    }
+
+    @Override
+    protected void copyRenderState(GameObject dst) {
+        super.copyRenderState(dst);
+        ((Bullet) dst).friendly = friendly;
     }
 
     // ── Collidable ──────────────────────────────────────────────
@@ -73,4 +104,20 @@ public class Bullet extends GameObject implements Collidable {
     public int getDamage() {
         return damage;
     }
+
+    @Override
+    public int getRenderLayer() {
+        return LAYER_PROJECTILES;
+    }
+
+    @Override
+    public int getMaterial() {
+        return MATERIAL_STAMPS;
+    }
+
+    /** The glow reaches 4 px past the tracer. */
+    @Override
+    public int getCullMargin() {
+        return 4;
+    }
 }
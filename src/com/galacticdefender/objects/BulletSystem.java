@@ -0,0 +1,255 @@
+package com.galacticdefender.objects;
+
+import com.galacticdefender.engine.Renderer;
+import com.galacticdefender.utils.Constants;
+
+import java.awt.*;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Structure-of-arrays store for every bullet in flight.
+ * Position, velocity, damage and side live in parallel primitive arrays,
+ * so a frame's movement is one tight loop with no virtual dispatch, and
+ * dead bullets are removed by swapping the last bullet into their slot.
+ * Order is therefore not stable across removals.
+ *
+ * Shooters still queue pooled Bullet objects as shot requests; the world
+ * drains them into this system with {@link #drain(List)}.
+ */
+public class BulletSystem {
+
+    public static final int WIDTH = Bullet.WIDTH, HEIGHT = Bullet.HEIGHT;
+    private static final int CULL_MARGIN = 30;
+
+    /** Tracer stamps, rasterised on first render (never when headless). */
+    private static final class Stamps {
+        static final int PAD = 4; // glow (3 px) plus antialiasing fringe
+
+        static final StampCache.Stamp FRIENDLY = StampCache.render(
+                WIDTH + PAD * 2, HEIGHT + PAD * 2, PAD, PAD, g -> {
+                    // Gold tracer with soft glow
+                    g.setColor(new Color(255, 230, 80, 90));
+                    g.fillRoundRect(-3, -3, WIDTH + 6, HEIGHT + 6, 6, 6);
+                    g.setColor(new Color(255, 215, 50));
+                    g.fillRoundRect(0, 0, WIDTH, HEIGHT, 4, 4);
+                    g.setColor(Color.WHITE);
+                    g.fillOval(WIDTH - 4, 0, 4, 5);
+                });
+
+        static final StampCache.Stamp ENEMY = StampCache.render(
+                WIDTH + PAD * 2, HEIGHT + PAD * 2, PAD, PAD, g -> {
+                    // Red enemy tracer
+                    g.setColor(new Color(255, 60, 60, 90));
+                    g.fillRoundRect(-3, -3, WIDTH + 6, HEIGHT + 6, 6, 6);
+                    g.setColor(new Color(255, 80, 80));
+                    g.fillRoundRect(0, 0, WIDTH, HEIGHT, 4, 4);
+                });
+    }
+
+    private float[] x, y, vx, vy;
+    private float[] prevX, prevY; // position at the start of the step
+    private int[] damage;
+    private boolean[] friendly;
+    private int count;
+
+    public BulletSystem() {
+        this(256);
+    }
+
+    public BulletSystem(int initialCapacity) {
+        int n = Math.max(16, initialCapacity);
+        x = new float[n];
+        y = new float[n];
+        vx = new float[n];
+        vy = new float[n];
+        prevX = new float[n];
+        prevY = new float[n];
+        damage = new int[n];
+        friendly = new boolean[n];
+    }
+
+    // ── Spawning ──────────────────────────────────────────────
+
+    /** Add one bullet; returns its (temporary) index. */
+    public int spawn(float bx, float by, float bvx, float bvy, boolean isFriendly) {
+        if (count == x.length)
+            grow();
+        int i = count++;
+        x[i] = prevX[i] = bx;
+        y[i] = prevY[i] = by;
+        vx[i] = bvx;
+        vy[i] = bvy;
+        friendly[i] = isFriendly;
+        damage[i] = isFriendly ? Bullet.FRIENDLY_DAMAGE : Bullet.ENEMY_DAMAGE;
+        return i;
+    }
+
+    /** Copy queued shot requests into the system, recycle them and clear the list. */
+    public void drain(List<Bullet> shots) {
+        for (int i = 0, n = shots.size(); i < n; i++) {
+            Bullet b = shots.get(i);
+            spawn(b.getX(), b.getY(), b.getVelX(), b.getVelY(), b.isFriendly());
+            b.recycle();
+        }
+        shots.clear();
+    }
+
+    private void grow() {
+        int n = x.length * 2;
+        x = Arrays.copyOf(x, n);
+        y = Arrays.copyOf(y, n);
+        vx = Arrays.copyOf(vx, n);
+        vy = Arrays.copyOf(vy, n);
+        prevX = Arrays.copyOf(prevX, n);
+        prevY = Arrays.copyOf(prevY, n);
+        damage = Arrays.copyOf(damage, n);
+        friendly = Arrays.copyOf(friendly, n);
+    }
+
+    // ── Update ────────────────────────────────────────────────
+
+    /** Integrate every bullet and cull the ones that left the screen. */
+    public void update(float dt) {
+        final float minX = -CULL_MARGIN, maxX = Constants.WINDOW_WIDTH + CULL_MARGIN;
+        final float minY = -CULL_MARGIN, maxY = Constants.WINDOW_HEIGHT + CULL_MARGIN;
+        int i = 0;
+        while (i < count) {
+            float nx = x[i] + vx[i] * dt;
+            float ny = y[i] + vy[i] * dt;
+            if (nx < minX || nx > maxX || ny < minY || ny > maxY) {
+                remove(i); // re-examine slot i, now holding the former last bullet
+                continue;
+            }
+            prevX[i] = x[i];
+            prevY[i] = y[i];
+            x[i] = nx;
+            y[i] = ny;
+            i++;
+        }
+    }
+
+    /**
+     * Move bullets [from, to) without culling. Ranges touch disjoint slots,
+     * so ParallelUpdate runs several at once; {@link #cull()} follows.
+     * Together they leave the same bullets, in the same order, as update().
+     */
+    public void integrate(int from, int to, float dt) {
+        for (int i = from; i < to; i++) {
+            prevX[i] = x[i];
+            prevY[i] = y[i];
+            x[i] += vx[i] * dt;
+            y[i] += vy[i] * dt;
+        }
+    }
+
+    /** Remove every bullet that has left the screen (after integrate). */
+    public void cull() {
+        final float minX = -CULL_MARGIN, maxX = Constants.WINDOW_WIDTH + CULL_MARGIN;
+        final float minY = -CULL_MARGIN, maxY = Constants.WINDOW_HEIGHT + CULL_MARGIN;
+        int i = 0;
+        while (i < count) {
+            if (x[i] < minX || x[i] > maxX || y[i] < minY || y[i] > maxY)
+                remove(i);
+            else
+                i++;
+        }
+    }
+
+    /** Swap-remove bullet i. The former last bullet now occupies slot i. */
+    public void remove(int i) {
+        int last = --count;
+        if (i != last) {
+            x[i] = x[last];
+            y[i] = y[last];
+            vx[i] = vx[last];
+            vy[i] = vy[last];
+            prevX[i] = prevX[last];
+            prevY[i] = prevY[last];
+            damage[i] = damage[last];
+            friendly[i] = friendly[last];
+        }
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    /** Copy the render state (positions and side) of src into this system. */
+    public void copyRenderState(BulletSystem src) {
+        int n = src.count;
+        while (x.length < n)
+            grow();
+        System.arraycopy(src.x, 0, x, 0, n);
+        System.arraycopy(src.y, 0, y, 0, n);
+        System.arraycopy(src.prevX, 0, prevX, 0, n);
+        System.arraycopy(src.prevY, 0, prevY, 0, n);
+        System.arraycopy(src.friendly, 0, friendly, 0, n);
+        count = n;
+    }
+
+    // ── Collision queries ─────────────────────────────────────
+
+    /**
+     * Batched AABB scan: index of the first bullet at or after {@code from}
+     * on the given side that overlaps the box, or -1 if there is none.
+     * Callers typically handle the hit, remove(i) and continue from i.
+     */
+    public int nextOverlap(int from, boolean ofFriendly,
+            float bx, float by, float bw, float bh) {
+        for (int i = from; i < count; i++) {
+            if (friendly[i] != ofFriendly)
+                continue;
+            if (x[i] < bx + bw && bx < x[i] + WIDTH
+                    && y[i] < by + bh && by < y[i] + HEIGHT)
+                return i;
+        }
+        return -1;
+    }
+
+    // ── Render ────────────────────────────────────────────────
+
+    /**
+     * Draw every on-screen bullet alpha of the way from its previous to its
+     * current position. Bullets live up to CULL_MARGIN px past the edges;
+     * those are skipped rather than blitted off screen.
+     */
+    public void render(Renderer r, float alpha) {
+        final int pad = Stamps.PAD;
+        final int maxX = Constants.WINDOW_WIDTH + pad, maxY = Constants.WINDOW_HEIGHT + pad;
+        for (int i = 0; i < count; i++) {
+            int bx = (int) (prevX[i] + (x[i] - prevX[i]) * alpha);
+            int by = (int) (prevY[i] + (y[i] - prevY[i]) * alpha);
+            if (bx + WIDTH + pad < 0 || bx > maxX || by + HEIGHT + pad < 0 || by > maxY)
+                continue;
+            stamp(friendly[i]).draw(r, bx, by);
+        }
+    }
+
+    /** Pre-rendered tracer for the given side, anchored at the bullet's top-left. */
+    static StampCache.Stamp stamp(boolean isFriendly) {
+        return isFriendly ? Stamps.FRIENDLY : Stamps.ENEMY;
+    }
+
+    // ── Accessors ─────────────────────────────────────────────
+
+    public int size() {
+        return count;
+    }
+
+    public float getX(int i) {
+        return x[i];
+    }
+
+    public float getY(int i) {
+        return y[i];
+    }
+
+    public int getDamage(int i) {
+        return damage[i];
+    }
+
+    public boolean isFriendly(int i) {
+        return friendly[i];
+    }
+}
@@ -1,12 +1,13 @@
 package com.galacticdefender.objects;
 
+import com.galacticdefender.engine.Renderer;
 import com.galacticdefender.utils.Collidable;
 import com.galacticdefender.utils.Constants;
 import com.galacticdefender.utils.World;
 
 import java.awt.*;
-import java.awt.image.BufferedImage;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -24,10 +25,18 @@ public abstract class Enemy extends GameObject implements Collidable {
     protected boolean onGround;
     protected float shootTimer;
     protected float shootInterval;
-    protected BufferedImage sprite;
+    protected int sprite = -1; // atlas id, see Sprites
 
-    // Bullets queued to be added to the world by SpawnManager / GameEngine
-    protected final List<Bullet> pendingBullets = new ArrayList<>();
+    private static final Color PLACEHOLDER = new Color(190, 55, 55);
+    private static final Color BAR_BACK = new Color(50, 18, 18, 210);
+    private static final Color BAR_FILL = new Color(220, 55, 55);
+    private static final Color BAR_EDGE = new Color(255, 100, 100);
+
+    // Shots queued this step as (x, y, vx, vy); drained into the BulletSystem
+    // by GamePanel. Plain floats, not pooled Bullets, so update() touches no
+    // shared state and enemies can be updated in parallel.
+    private float[] pendingShots = new float[8];
+    private int pendingShotCount;
 
     protected Enemy(float x, float y, int w, int h,
             int health, int damage, int score, float shootInterval) {
@@ -74,11 +83,11 @@ public abstract class Enemy extends GameObject implements Collidable {
 
         // Platform collision (land on top surface only)
         onGround = false;
-        for (Platform p : World.platforms) {
-            Rectangle pb = p.getBounds();
-            float myBot = y + height, prevBot = myBot - velY * dt;
-            if (getBounds().intersects(pb) && prevBot <= pb.y + 4 && velY >= 0) {
-                y = pb.y - height;
+        if (velY >= 0) {
+            float myBot = y + height;
+            float top = World.platformIndex().landingTop(x, x + width, y, myBot, myBot - velY * dt);
+            if (!Float.isNaN(top)) {
+                y = top - height;
                 velY = 0;
                 onGround = true;
             }
@@ -109,46 +118,52 @@ public abstract class Enemy extends GameObject implements Collidable {
         float dx = pcx - cx, dy = pcy - cy;
         float len = (float) Math.sqrt(dx * dx + dy * dy);
         if (len > 0 && len < 580) {
-            pendingBullets.add(new Bullet(cx, cy, dx / len * 380f, dy / len * 80f, false));
+            queueShot(cx, cy, dx / len * 380f, dy / len * 80f);
         }
     }
 
     @Override
-    public void render(Graphics2D g) {
+    public void render(Renderer r) {
         if (!active)
             return;
-        renderSprite(g);
-        renderHealthBar(g);
+        renderSprite(r);
+        renderHealthBar(r);
     }
 
-    protected void renderSprite(Graphics2D g) {
-        if (sprite != null) {
-            if (!facingRight)
-                g.drawImage(sprite, (int) x, (int) y, width, height, null);
-            else
-                g.drawImage(sprite, (int) x + width, (int) y, -width, height, null);
-        } else {
+    protected void renderSprite(Renderer r) {
+        // Source art faces left; the atlas holds the mirrored copy too
+        if (!r.sprite(sprite, facingRight, (int) x, (int) y)) {
             // Placeholder rect – should not appear during normal gameplay
-            g.setColor(new Color(190, 55, 55));
-            g.fillRect((int) x, (int) y, width, height);
+            r.fillRect((int) x, (int) y, width, height, PLACEHOLDER);
         }
     }
 
-    protected void renderHealthBar(Graphics2D g) {
+    protected void renderHealthBar(Renderer r) {
         if (health >= maxHealth)
             return;
         int bx = (int) x, by = (int) y - 9, bw = width, bh = 5;
-        g.setColor(new Color(50, 18, 18, 210));
-        g.fillRect(bx, by, bw, bh);
+        r.fillRect(bx, by, bw, bh, BAR_BACK);
         int fill = (int) ((float) health / maxHealth * bw);
-        g.setColor(new Color(220, 55, 55));
-        g.fillRect(bx, by, fill, bh);
-        g.setColor(new Color(255, 100, 100));
-        g.drawRect(bx, by, bw, bh);
+        r.fillRect(bx, by, fill, bh, BAR_FILL);
+        r.drawRect(bx, by, bw, bh, BAR_EDGE);
+    }
+
+    @Override
+    public int getMaterial() {
+        return MATERIAL_ATLAS;
     }
 
+    /** The health bar sits 9 px above the sprite. */
+    @Override
+    public int getCullMargin() {
+        return 10;
+    }
+
+    /** Apply damage; at zero health the enemy dies at once, so the hit that killed it scores. */
     public void takeDamage(int amt) {
         health = Math.max(0, health - amt);
+        if (health == 0)
+            active = false;
     }
 
     public int getHealth() {
@@ -167,12 +182,43 @@ public abstract class Enemy extends GameObject implements Collidable {
         return maxHealth;
     }
 
+    private void queueShot(float sx, float sy, float svx, float svy) {
+        int i = pendingShotCount * 4;
+        if (i == pendingShots.length)
+            pendingShots = Arrays.copyOf(pendingShots, i * 2);
+        pendingShots[i] = sx;
+        pendingShots[i + 1] = sy;
+        pendingShots[i + 2] = svx;
+        pendingShots[i + 3] = svy;
+        pendingShotCount++;
+    }
+
     public List<Bullet> consumePendingBullets() {
-        List<Bullet> out = new ArrayList<>(pendingBullets);
-        pendingBullets.clear();
+        List<Bullet> out = new ArrayList<>(pendingShotCount);
+        for (int i = 0; i < pendingShotCount * 4; i += 4)
+            out.add(Bullet.obtain(pendingShots[i], pendingShots[i + 1],
+                    pendingShots[i + 2], pendingShots[i + 3], false));
+        pendingShotCount = 0;
         return out;
     }
 
+    /** Move queued shots straight into the bullet system, in the order they were fired. */
+    public void drainPendingBullets(BulletSystem sink) {
+        for (int i = 0; i < pendingShotCount * 4; i += 4)
+            sink.spawn(pendingShots[i], pendingShots[i + 1], pendingShots[i + 2], pendingShots[i + 3], false);
+        pendingShotCount = 0;
+    }
+
+    @Override
+    protected void copyRenderState(GameObject dst) {
+        super.copyRenderState(dst);
+        Enemy e = (Enemy) dst;
+        e.health = health;
+        e.maxHealth = maxHealth;
+        e.facingRight = facingRight;
+        e.sprite = sprite;
+    }
+
     @Override
     public Rectangle getBounds() {
         return new Rectangle((int) x, (int) y, width, height);
@@ -1,19 +1,37 @@
 package com.galacticdefender.objects;
 
+import com.galacticdefender.engine.Renderer;
+import com.galacticdefender.utils.Constants;
+import com.galacticdefender.utils.GameRandom;
+import com.galacticdefender.utils.ObjectPool;
+
 import java.awt.*;
 import java.util.Random;
 
 /**
  * Particle-based explosion effect spawned on enemy death.
  * Self-deactivates once the animation completes.
+ * Pooled like Bullet: particle arrays are allocated once per instance and
+ * re-seeded by obtain().
  */
 public class ExplosionEffect extends GameObject {
 
+    /** Shared pool; cap can be overridden with -Dgd.pool.explosions=N. */
+    public static final ObjectPool<ExplosionEffect> POOL = new ObjectPool<>(
+            ExplosionEffect::new,
+            Integer.getInteger("gd.pool.explosions", Constants.EXPLOSION_POOL_CAP));
+
+    private static final Random RNG = GameRandom.get();
+
     private int frame;
     private static final int MAX_FRAMES = 25;
     private static final int NUM_PARTICLES = 18;
+    private static final int RING_FRAMES = 7;
+
+    private float[] px = new float[NUM_PARTICLES], py = new float[NUM_PARTICLES];
+    private final float[] pvx = new float[NUM_PARTICLES], pvy = new float[NUM_PARTICLES];
+    private boolean pooled;
 
-    private final float[] px, py, pvx, pvy;
     private static final Color[] COLORS = {
             new Color(255, 200, 50), new Color(255, 120, 30),
             new Color(255, 60, 20), new Color(230, 230, 230),
@@ -21,22 +39,64 @@ public class ExplosionEffect extends GameObject {
     };
 
     public ExplosionEffect(float cx, float cy) {
-        super(cx - 50, cy - 50, 100, 100);
-        px = new float[NUM_PARTICLES];
-        py = new float[NUM_PARTICLES];
-        pvx = new float[NUM_PARTICLES];
-        pvy = new float[NUM_PARTICLES];
-        Random rng = new Random();
+        this();
+        reset(cx, cy);
+    }
+
+    /** Blank instance for the pool: draws no random numbers until obtain(). */
+    private ExplosionEffect() {
+        super(0, 0, 100, 100);
+    }
+
+    /** Take an explosion from the pool (or create one) centred on cx, cy. */
+    public static ExplosionEffect obtain(float cx, float cy) {
+        ExplosionEffect fx = POOL.acquire();
+        fx.pooled = false;
+        fx.reset(cx, cy);
+        return fx;
+    }
+
+    private void reset(float cx, float cy) {
+        x = cx - 50;
+        y = cy - 50;
+        frame = 0;
+        active = true;
+        savePrevious();
         for (int i = 0; i < NUM_PARTICLES; i++) {
             px[i] = cx;
             py[i] = cy;
-            double angle = rng.nextDouble() * Math.PI * 2;
-            float speed = rng.nextFloat() * 180 + 60;
+            double angle = RNG.nextDouble() * Math.PI * 2;
+            float speed = RNG.nextFloat() * 180 + 60;
             pvx[i] = (float) Math.cos(angle) * speed;
             pvy[i] = (float) Math.sin(angle) * speed;
         }
     }
 
+    @Override
+    protected GameObject newRenderCopy() {
+        ExplosionEffect copy = (ExplosionEffect) super.newRenderCopy();
+        copy.px = new float[NUM_PARTICLES];
+        copy.py = new float[NUM_PARTICLES];
+        return copy;
+    }
+
+    @Override
+    protected void copyRenderState(GameObject dst) {
+        super.copyRenderState(dst);
+        ExplosionEffect fx = (ExplosionEffect) dst;
+        fx.frame = frame;
+        System.arraycopy(px, 0, fx.px, 0, NUM_PARTICLES);
+        System.arraycopy(py, 0, fx.py, 0, NUM_PARTICLES);
+    }
+
+    @Override
+    public void recycle() {
+        if (pooled)
+            return;
+        pooled = true;
+        POOL.release(this);
+    }
+
     @Override
     public void update(float dt) {
         frame++;
@@ -51,26 +111,66 @@ public class ExplosionEffect extends GameObject {
     }
 
     @Override
-    public void render(Graphics2D g) {
-        float t = (float) frame / MAX_FRAMES;
-        float alpha = Math.max(0f, 1f - t);
-        Composite prev = g.getComposite();
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
-
-        for (int i = 0; i < NUM_PARTICLES; i++) {
-            int sz = Math.max(2, (int) (14 - 10 * t));
-            g.setColor(COLORS[i % COLORS.length]);
-            g.fillOval((int) px[i] - sz / 2, (int) py[i] - sz / 2, sz, sz);
+    public void render(Renderer r) {
+        int f = Math.min(frame, MAX_FRAMES - 1);
+        StampCache.Stamp[] particles = Stamps.PARTICLES[f];
+        for (int i = 0; i < NUM_PARTICLES; i++)
+            particles[i % COLORS.length].draw(r, (int) px[i], (int) py[i]);
+        // Flash ring in first few frames, added onto the scene as a glow
+        if (frame < RING_FRAMES) {
+            r.setBlend(Renderer.Blend.ADDITIVE);
+            Stamps.RINGS[frame].draw(r, (int) (x + 50), (int) (y + 50));
+            r.setBlend(Renderer.Blend.NORMAL);
         }
-        // Flash ring in first few frames
-        if (frame < 7) {
-            int r = frame * 11;
-            g.setColor(new Color(255, 235, 120, (int) (180 * alpha)));
-            Stroke old = g.getStroke();
-            g.setStroke(new BasicStroke(3f));
-            g.drawOval((int) (x + 50) - r, (int) (y + 50) - r, r * 2, r * 2);
-            g.setStroke(old);
+    }
+
+    /**
+     * Every particle colour at every frame's size and fade, plus the flash
+     * ring per frame, anchored at their centres. Rasterised on first render.
+     */
+    private static final class Stamps {
+        static final StampCache.Stamp[][] PARTICLES = new StampCache.Stamp[MAX_FRAMES][COLORS.length];
+        static final StampCache.Stamp[] RINGS = new StampCache.Stamp[RING_FRAMES];
+
+        static {
+            for (int f = 0; f < MAX_FRAMES; f++) {
+                float t = (float) f / MAX_FRAMES;
+                float alpha = Math.max(0f, 1f - t);
+                int sz = Math.max(2, (int) (14 - 10 * t));
+                for (int c = 0; c < COLORS.length; c++) {
+                    Color col = COLORS[c];
+                    PARTICLES[f][c] = StampCache.render(sz + 2, sz + 2, sz / 2 + 1, sz / 2 + 1, g -> {
+                        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
+                        g.setColor(col);
+                        g.fillOval(-sz / 2, -sz / 2, sz, sz);
+                    });
+                }
+                if (f < RING_FRAMES) {
+                    int r = f * 11, half = r + 3;
+                    RINGS[f] = StampCache.render(half * 2, half * 2, half, half, g -> {
+                        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
+                        g.setColor(new Color(255, 235, 120, (int) (180 * alpha)));
+                        g.setStroke(new BasicStroke(3f));
+                        g.drawOval(-r, -r, r * 2, r * 2);
+                    });
+                }
+            }
         }
-        g.setComposite(prev);
+    }
+
+    @Override
+    public int getRenderLayer() {
+        return LAYER_EFFECTS;
+    }
+
+    @Override
+    public int getMaterial() {
+        return MATERIAL_STAMPS;
+    }
+
+    /** Particles fly up to ~100 px from the centre; the box is only ±50. */
+    @Override
+    public int getCullMargin() {
+        return 64;
     }
 }
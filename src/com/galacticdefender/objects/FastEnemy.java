@@ -1,18 +1,12 @@
 package com.galacticdefender.objects;
 
-import com.galacticdefender.engine.ResourceLoader;
-import com.galacticdefender.utils.Constants;
-
-import java.awt.image.BufferedImage;
-
 /**
  * Fast zig-zag enemy.
  */
 public class FastEnemy extends Enemy {
 
-    private static final int W = 46, H = 62;
+    static final int W = 46, H = 62;
     private static final float SPEED = 165f;
-    private static BufferedImage cachedSprite;
 
     private float zigTimer = 0f;
     private float zigDir = 1f;
@@ -20,15 +14,7 @@ public class FastEnemy extends Enemy {
     public FastEnemy(float x, float y) {
         super(x, y, W, H, 30, 10, 150, 2.0f);
 
-        if (cachedSprite == null) {
-            BufferedImage raw = ResourceLoader.loadImage(Constants.IMG_ENEMY_BASIC);
-
-        if (raw != null) {
-            cachedSprite = ResourceLoader.scaleImage(raw, W, H);
-        }
-        }
-
-        this.sprite = cachedSprite;
+        this.sprite = Sprites.FAST_ENEMY;
     }
 
     @Override
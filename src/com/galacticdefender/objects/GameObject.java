@@ -1,6 +1,7 @@
 package com.galacticdefender.objects;
 
-import java.awt.Graphics2D;
+import com.galacticdefender.engine.Renderer;
+
 import java.awt.Rectangle;
 
 /**
@@ -10,8 +11,12 @@ import java.awt.Rectangle;
  *
  * Demonstrates: Abstraction, Encapsulation, and the foundation
  * for Inheritance and Polymorphism throughout the hierarchy.
+ *
+ * For the render thread, every object can produce detached render copies
+ * (one per snapshot slot) that carry only what render() reads; subclasses
+ * with extra render state extend copyRenderState().
  */
-public abstract class GameObject {
+public abstract class GameObject implements Cloneable {
 
     // Encapsulated fields – accessed only through getters/setters
     protected float x, y;
@@ -19,9 +24,18 @@ public abstract class GameObject {
     protected float velX, velY;
     protected boolean active;
 
+    // Position at the start of the current simulation step (render interpolation)
+    protected float prevX, prevY;
+
+    // Detached copies handed to the render thread, one per snapshot slot
+    private static final int RENDER_SLOTS = 3; // matches the TripleBuffer
+    private GameObject[] renderCopies;
+
     public GameObject(float x, float y, int width, int height) {
         this.x = x;
         this.y = y;
+        this.prevX = x;
+        this.prevY = y;
         this.width = width;
         this.height = height;
         this.active = true;
@@ -30,14 +44,123 @@ public abstract class GameObject {
     /** Update logic called once per frame. dt = elapsed seconds. */
     public abstract void update(float dt);
 
-    /** Render this object into the given graphics context. */
-    public abstract void render(Graphics2D g);
+    /** Render this object through the given renderer (Java2D or OpenGL). */
+    public abstract void render(Renderer r);
+
+    /** Remember the current position as the start of the next step. */
+    public void savePrevious() {
+        prevX = x;
+        prevY = y;
+    }
+
+    /** x interpolated alpha of the way from the previous to the current step. */
+    public float lerpX(float alpha) {
+        return prevX + (x - prevX) * alpha;
+    }
+
+    /** y interpolated alpha of the way from the previous to the current step. */
+    public float lerpY(float alpha) {
+        return prevY + (y - prevY) * alpha;
+    }
+
+    // ── Render ordering and culling ────────────────────────────
+
+    /** Draw layers, back to front. Objects in a lower layer are drawn first. */
+    public static final int LAYER_PICKUPS = 1, LAYER_ACTORS = 2,
+            LAYER_PROJECTILES = 3, LAYER_EFFECTS = 4;
+
+    /** What render() mostly draws with; same-material objects are batched. */
+    public static final int MATERIAL_SHAPES = 0, MATERIAL_ATLAS = 1, MATERIAL_STAMPS = 2;
+
+    public int getRenderLayer() {
+        return LAYER_ACTORS;
+    }
+
+    public int getMaterial() {
+        return MATERIAL_SHAPES;
+    }
+
+    /**
+     * How far render() may draw outside the object's box, in pixels. The
+     * render queue only culls objects whose box grown by this margin lies
+     * completely off screen.
+     */
+    public int getCullMargin() {
+        return 0;
+    }
+
+    // ── Render copies ──────────────────────────────────────────
+
+    /**
+     * Refresh and return this object's render copy for the given snapshot
+     * slot. The copy is created on first use and reused afterwards.
+     */
+    public final GameObject renderCopy(int slot) {
+        if (renderCopies == null)
+            renderCopies = new GameObject[RENDER_SLOTS];
+        GameObject copy = renderCopies[slot];
+        if (copy == null) {
+            copy = newRenderCopy();
+            renderCopies[slot] = copy;
+        }
+        copyRenderState(copy);
+        return copy;
+    }
+
+    /**
+     * Create a fresh render copy. The default is a shallow clone; classes
+     * whose render state lives in mutable arrays must give the copy its own.
+     */
+    protected GameObject newRenderCopy() {
+        try {
+            GameObject copy = (GameObject) clone();
+            copy.renderCopies = null;
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /** Copy everything render() reads into dst (same concrete class). */
+    protected void copyRenderState(GameObject dst) {
+        dst.x = x;
+        dst.y = y;
+        dst.prevX = prevX;
+        dst.prevY = prevY;
+        dst.width = width;
+        dst.height = height;
+        dst.velX = velX;
+        dst.velY = velY;
+        dst.active = active;
+    }
+
+    /**
+     * Called once when the object is removed from the world after being
+     * deactivated. Pooled types override this to return themselves to
+     * their pool; the object must not be touched afterwards.
+     */
+    public void recycle() {
+    }
 
     /** Default bounding rectangle – subclasses may override for tighter bounds. */
     public Rectangle getBounds() {
         return new Rectangle((int) x, (int) y, width, height);
     }
 
+    /**
+     * Allocation-free AABB test against another object's box.
+     * Touching edges do not count as overlap (same as Rectangle.intersects).
+     */
+    public boolean overlaps(GameObject o) {
+        return overlaps(o.x, o.y, o.width, o.height);
+    }
+
+    /** Allocation-free AABB test against an arbitrary x/y/width/height box. */
+    public boolean overlaps(float ox, float oy, float ow, float oh) {
+        return x < ox + ow && ox < x + width
+                && y < oy + oh && oy < y + height;
+    }
+
     // ── Getters & Setters ──────────────────────────────────────
     public boolean isActive() {
         return active;
@@ -1,5 +1,7 @@
 package com.galacticdefender.objects;
 
+import com.galacticdefender.engine.Renderer;
+
 import java.awt.*;
 
 /**
@@ -8,6 +10,8 @@ import java.awt.*;
  */
 public class Platform extends GameObject {
 
+    private StampCache.Stamp stamp;
+
     public Platform(float x, float y, int width, int height) {
         super(x, y, width, height);
     }
@@ -16,8 +20,22 @@ public class Platform extends GameObject {
     public void update(float dt) {
         /* static – no movement */ }
 
+    /**
+     * Platforms are normally painted once into StaticLayer's cached image;
+     * drawing one on its own uses a stamp of the same painting.
+     */
     @Override
-    public void render(Graphics2D g) {
+    public void render(Renderer r) {
+        if (stamp == null)
+            stamp = StampCache.render(width, height, 0, 0, g -> {
+                g.translate(-x, -y);
+                paint(g);
+            });
+        stamp.draw(r, (int) x, (int) y);
+    }
+
+    /** Paint the platform with Java2D at its world position. */
+    public void paint(Graphics2D g) {
         // Gradient body
         Paint prev = g.getPaint();
         g.setPaint(new GradientPaint(0, y, new Color(62, 68, 82),
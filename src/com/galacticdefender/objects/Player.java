@@ -1,40 +1,42 @@
 package com.galacticdefender.objects;
 
 import com.galacticdefender.engine.InputHandler;
-import com.galacticdefender.engine.ResourceLoader;
+import com.galacticdefender.engine.Renderer;
 import com.galacticdefender.utils.Collidable;
 import com.galacticdefender.utils.Constants;
+import com.galacticdefender.utils.GameClock;
 import com.galacticdefender.utils.World;
 
 import java.awt.*;
 import java.awt.event.KeyEvent;
-import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.List;
 
 public class Player extends GameObject implements Collidable {
 
     // ── Sprite / Animation ─────────────────────────────────────
-    private static final int W = 55, H = 72;
+    static final int W = 55, H = 72;
 
-    private BufferedImage[][] frames;
     private int currentFrame = 0;
     private int currentRow = 0;
 
     private float animationTimer = 0f;
     private static final int FRAME_COUNT = 4;
     private static final float FRAME_SPEED = 0.1f;
+    private static final Color MUZZLE_FLASH = new Color(255,220,80,180);
 
-    // ── Input ──────────────────────────────────────────────────
+    // ── Input and time ─────────────────────────────────────────
     private final InputHandler input;
+    private final GameClock clock;
 
     // ── Combat state ───────────────────────────────────────────
     private int health;
     private boolean facingRight = true;
     private boolean onGround = false;
 
+    // Timers below are remaining milliseconds of simulation time
     private long gunCooldown = 0;
-    private long lastTime = System.currentTimeMillis();
+    private long lastTime; // clock.millis() at the previous update
 
     // ── Power-ups ──────────────────────────────────────────────
     private long doubleShotTimer = 0;
@@ -49,42 +51,13 @@ public class Player extends GameObject implements Collidable {
     // ── Movement state ─────────────────────────────────────────
     private boolean isMoving = false;
 
-    public Player(float x, float y, InputHandler input) {
+    public Player(float x, float y, InputHandler input, GameClock clock) {
         super(x, y, W, H);
 
         this.health = Constants.PLAYER_MAX_HEALTH;
         this.input = input;
-
-        loadSpriteSheet();
-    }
-
-    // ───────────────────────────────────────────────────────────
-    // LOAD SPRITE SHEET
-    // ───────────────────────────────────────────────────────────
-    private void loadSpriteSheet() {
-
-        BufferedImage raw = ResourceLoader.loadImage(Constants.IMG_PLAYER);
-
-        if (raw == null) return;
-
-        int frameW = raw.getWidth() / 8;
-        int frameH = raw.getHeight() / 5;
-
-        frames = new BufferedImage[5][8];
-
-        for (int row = 0; row < 5; row++) {
-            for (int col = 0; col < 5; col++) {
-
-                BufferedImage frame = raw.getSubimage(
-                        col * frameW,
-                        row * frameH,
-                        frameW,
-                        frameH
-                );
-
-                frames[row][col] = ResourceLoader.scaleImage(frame, W, H);
-            }
-        }
+        this.clock = clock;
+        this.lastTime = clock.millis();
     }
 
     // ───────────────────────────────────────────────────────────
@@ -93,7 +66,7 @@ public class Player extends GameObject implements Collidable {
     @Override
     public void update(float dt) {
 
-        long now = System.currentTimeMillis();
+        long now = clock.millis();
         long elapsed = now - lastTime;
         lastTime = now;
 
@@ -145,16 +118,16 @@ public class Player extends GameObject implements Collidable {
         // ── Platform collision
         onGround = false;
 
-        for (Platform p : World.platforms) {
-
-            Rectangle pb = p.getBounds();
+        if (velY >= 0) {
 
             float myBot = y + height;
             float prevBot = myBot - velY * dt;
 
-            if (getBounds().intersects(pb) && prevBot <= pb.y + 4 && velY >= 0) {
+            float top = World.platformIndex().landingTop(x, x + width, y, myBot, prevBot);
+
+            if (!Float.isNaN(top)) {
 
-                y = pb.y - height;
+                y = top - height;
                 velY = 0;
                 onGround = true;
             }
@@ -206,36 +179,27 @@ public class Player extends GameObject implements Collidable {
 
         float vx = facingRight ? Constants.BULLET_SPEED : -Constants.BULLET_SPEED;
 
-        pendingBullets.add(new Bullet(sx, sy, vx, 0, true));
+        pendingBullets.add(Bullet.obtain(sx, sy, vx, 0, true));
 
         if (doubleShotTimer > 0)
-            pendingBullets.add(new Bullet(sx, sy + 8, vx, 0, true));
+            pendingBullets.add(Bullet.obtain(sx, sy + 8, vx, 0, true));
     }
 
     // ───────────────────────────────────────────────────────────
     // RENDER
     // ───────────────────────────────────────────────────────────
     @Override
-    public void render(Graphics2D g) {
+    public void render(Renderer r) {
 
-        if (frames != null) {
-
-            BufferedImage frame = frames[currentRow][currentFrame];
-
-            if (facingRight)
-                g.drawImage(frame, (int)x, (int)y, width, height, null);
-            else
-                g.drawImage(frame, (int)x + width, (int)y, -width, height, null);
-        }
+        // Frames are atlas ids; the sheet faces right, mirrored copy faces left
+        r.sprite(Sprites.PLAYER[currentRow][currentFrame], !facingRight, (int)x, (int)y);
 
         // muzzle flash
         if (gunCooldown > Constants.GUN_COOLDOWN_MS - 80) {
 
             float mx = facingRight ? x + width + 2 : x - 10;
 
-            g.setColor(new Color(255,220,80,180));
-
-            g.fillOval((int)mx, (int)(y + height / 2f - 6), 12, 12);
+            r.fillOval((int)mx, (int)(y + height / 2f - 6), 12, 12, MUZZLE_FLASH);
         }
     }
 
@@ -259,6 +223,26 @@ public class Player extends GameObject implements Collidable {
     public void activateShield(long durationMs) { shieldTimer = durationMs; }
     public void activateSpeedBoost(long durationMs) { speedBoostTimer = durationMs; }
 
+    // ───────────────────────────────────────────────────────────
+    // RENDER COPY (render thread snapshot)
+    // ───────────────────────────────────────────────────────────
+    @Override
+    protected void copyRenderState(GameObject dst) {
+
+        super.copyRenderState(dst);
+
+        Player p = (Player) dst;
+
+        p.currentRow = currentRow;
+        p.currentFrame = currentFrame;
+        p.facingRight = facingRight;
+        p.gunCooldown = gunCooldown;
+        p.health = health;
+        p.doubleShotTimer = doubleShotTimer;
+        p.shieldTimer = shieldTimer;
+        p.speedBoostTimer = speedBoostTimer;
+    }
+
     // ───────────────────────────────────────────────────────────
     // COLLISION
     // ───────────────────────────────────────────────────────────
@@ -298,6 +282,12 @@ public class Player extends GameObject implements Collidable {
         return out;
     }
 
+    /** Move queued shots straight into the bullet system without copying the list. */
+    public void drainPendingBullets(BulletSystem sink){
+
+        sink.drain(pendingBullets);
+    }
+
     // ───────────────────────────────────────────────────────────
     // POWER-UP STATE GETTERS (used by UI)
     // ───────────────────────────────────────────────────────────
@@ -339,6 +329,8 @@ public class Player extends GameObject implements Collidable {
 
         active = true;
 
-        lastTime = System.currentTimeMillis();
+        savePrevious();
+
+        lastTime = clock.millis();
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.galacticdefender.objects;
 
+import com.galacticdefender.engine.Renderer;
 import com.galacticdefender.utils.Collidable;
 import com.galacticdefender.utils.Constants;
 import com.galacticdefender.utils.World;
@@ -16,6 +17,9 @@ public abstract class PowerUp extends GameObject implements Collidable {
     protected String label;
     protected Color color;
     private float pulse = 0f;
+    private StampCache.Stamp badge; // resolved on first render
+
+    private static final int BADGE_PAD = 9; // aura reaches 8 px past the badge
 
     protected PowerUp(float x, float y) {
         super(x, y, 34, 34);
@@ -30,11 +34,11 @@ public abstract class PowerUp extends GameObject implements Collidable {
         velY += Constants.GRAVITY * dt;
         y += velY * dt;
         // Land on platforms
-        for (Platform p : World.platforms) {
-            Rectangle pb = p.getBounds();
-            if (getBounds().intersects(pb) && velY >= 0
-                    && (y + height) - velY * dt <= pb.y + 4) {
-                y = pb.y - height;
+        if (velY >= 0) {
+            float top = World.platformIndex().landingTop(x, x + width, y, y + height,
+                    (y + height) - velY * dt);
+            if (!Float.isNaN(top)) {
+                y = top - height;
                 velY = 0;
             }
         }
@@ -46,34 +50,51 @@ public abstract class PowerUp extends GameObject implements Collidable {
     }
 
     @Override
-    public void render(Graphics2D g) {
+    public void render(Renderer r) {
         float bob = (float) Math.sin(pulse) * 3f;
-        int rx = (int) x, ry = (int) (y + bob);
-
-        // Glow aura
-        g.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 55));
-        g.fillOval(rx - 8, ry - 8, 50, 50);
-
-        // Spinning ring
-        Stroke old = g.getStroke();
-        g.setStroke(new BasicStroke(2f));
-        g.setColor(color);
-        g.drawOval(rx - 4, ry - 4, 42, 42);
-        g.setStroke(old);
-
-        // Badge background
-        g.setColor(new Color(28, 32, 44, 220));
-        g.fillRoundRect(rx, ry, width, height, 10, 10);
-        g.setColor(color);
-        g.drawRoundRect(rx, ry, width, height, 10, 10);
-
-        // Label text
-        g.setColor(Color.WHITE);
-        g.setFont(new Font("Consolas", Font.BOLD, 11));
-        FontMetrics fm = g.getFontMetrics();
-        g.drawString(label,
-                rx + (width - fm.stringWidth(label)) / 2,
-                ry + (height + fm.getAscent() - fm.getDescent()) / 2);
+        if (badge == null)
+            badge = badgeStamp(label, color, width, height);
+        badge.draw(r, (int) x, (int) (y + bob));
+    }
+
+    /** One stamp per label and colour: aura, ring, badge and label text. */
+    private static StampCache.Stamp badgeStamp(String label, Color color, int w, int h) {
+        int pad = BADGE_PAD;
+        return StampCache.get("powerup:" + label + ":" + color.getRGB(),
+                w + pad * 2, h + pad * 2, pad, pad, g -> {
+                    // Glow aura
+                    g.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 55));
+                    g.fillOval(-8, -8, 50, 50);
+
+                    // Spinning ring
+                    g.setStroke(new BasicStroke(2f));
+                    g.setColor(color);
+                    g.drawOval(-4, -4, 42, 42);
+                    g.setStroke(new BasicStroke(1f));
+
+                    // Badge background
+                    g.setColor(new Color(28, 32, 44, 220));
+                    g.fillRoundRect(0, 0, w, h, 10, 10);
+                    g.setColor(color);
+                    g.drawRoundRect(0, 0, w, h, 10, 10);
+
+                    // Label text
+                    g.setColor(Color.WHITE);
+                    g.setFont(new Font("Consolas", Font.BOLD, 11));
+                    FontMetrics fm = g.getFontMetrics();
+                    g.drawString(label,
+                            (w - fm.stringWidth(label)) / 2,
+                            (h + fm.getAscent() - fm.getDescent()) / 2);
+                });
+    }
+
+    @Override
+    protected void copyRenderState(GameObject dst) {
+        super.copyRenderState(dst);
+        PowerUp p = (PowerUp) dst;
+        p.label = label;
+        p.color = color;
+        p.pulse = pulse;
     }
 
     @Override
@@ -88,4 +109,20 @@ public abstract class PowerUp extends GameObject implements Collidable {
             active = false;
         }
     }
+
+    @Override
+    public int getRenderLayer() {
+        return LAYER_PICKUPS;
+    }
+
+    @Override
+    public int getMaterial() {
+        return MATERIAL_STAMPS;
+    }
+
+    /** Aura and ring reach 9 px out; the badge bobs by 3 px. */
+    @Override
+    public int getCullMargin() {
+        return 12;
+    }
 }
@@ -0,0 +1,36 @@
+package com.galacticdefender.objects;
+
+import com.galacticdefender.engine.ResourceLoader;
+import com.galacticdefender.utils.Constants;
+
+/**
+ * Registry of every sprite the game draws, as atlas ids.
+ * Defining them all in one place lets the atlas be packed once at startup
+ * (by AssetPreloader) instead of each class scaling its own images on
+ * first construction.
+ */
+public final class Sprites {
+    private Sprites() {
+    }
+
+    static final int BASIC_ENEMY = ResourceLoader.defineSprite(
+            Constants.IMG_ENEMY_BASIC, BasicEnemy.W, BasicEnemy.H);
+    static final int FAST_ENEMY = ResourceLoader.defineSprite(
+            Constants.IMG_ENEMY_BASIC, FastEnemy.W, FastEnemy.H);
+    static final int BOSS_ENEMY = ResourceLoader.defineSprite(
+            Constants.IMG_ENEMY_BASIC, BossEnemy.W, BossEnemy.H);
+
+    /** Player sheet: 8 × 5 cells, the first 5 columns of each row are used. */
+    static final int[][] PLAYER = new int[5][5];
+
+    static {
+        for (int row = 0; row < 5; row++)
+            for (int col = 0; col < 5; col++)
+                PLAYER[row][col] = ResourceLoader.defineSprite(
+                        Constants.IMG_PLAYER, col, row, 8, 5, Player.W, Player.H);
+    }
+
+    /** Define every sprite above (class initialisation does the work); call before preloading. */
+    public static void define() {
+    }
+}
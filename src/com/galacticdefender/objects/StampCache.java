@@ -0,0 +1,56 @@
+package com.galacticdefender.objects;
+
+import com.galacticdefender.engine.Renderer;
+import com.galacticdefender.engine.ResourceLoader;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Pre-rendered "stamps" for small procedural visuals (bullet tracers,
+ * power-up badges, explosion particles).
+ *
+ * Each stamp is rasterised once, antialiased, into a compatible translucent
+ * image; drawing it afterwards is one Renderer.image call instead of several
+ * antialiased shape fills, colour allocations and composite switches.
+ * Fixed sets of stamps are held by their owners (lazily, so headless runs
+ * never rasterise anything); open-ended ones are looked up by key here.
+ */
+public final class StampCache {
+    private StampCache() {
+    }
+
+    /** A pre-rendered image and the offset of its anchor within it. */
+    public record Stamp(BufferedImage image, int ox, int oy) {
+        /** Draw so that the anchor lands on (x, y). */
+        public void draw(Renderer r, int x, int y) {
+            r.image(image, x - ox, y - oy);
+        }
+    }
+
+    private static final Map<String, Stamp> keyed = new ConcurrentHashMap<>();
+
+    /**
+     * Rasterise a w × h stamp whose anchor sits at (ox, oy). The painter
+     * draws with the anchor at the origin.
+     */
+    public static Stamp render(int w, int h, int ox, int oy, Consumer<Graphics2D> painter) {
+        BufferedImage img = ResourceLoader.compatibleImage(Math.max(1, w), Math.max(1, h),
+                Transparency.TRANSLUCENT);
+        Graphics2D g = img.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g.translate(ox, oy);
+        painter.accept(g);
+        g.dispose();
+        return new Stamp(img, ox, oy);
+    }
+
+    /** Keyed variant of {@link #render}: rasterised on first request only. */
+    public static Stamp get(String key, int w, int h, int ox, int oy, Consumer<Graphics2D> painter) {
+        return keyed.computeIfAbsent(key, k -> render(w, h, ox, oy, painter));
+    }
+}
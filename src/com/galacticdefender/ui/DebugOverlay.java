@@ -0,0 +1,47 @@
+package com.galacticdefender.ui;
+
+import com.galacticdefender.engine.FrameProfiler;
+import com.galacticdefender.engine.Renderer;
+import com.galacticdefender.utils.Constants;
+
+import java.awt.*;
+
+/**
+ * Toggleable (F3) frame-timing overlay listing p50 / p95 / p99 / max per
+ * phase in milliseconds. The text is rebuilt a few times per second rather
+ * than every frame so the overlay itself barely shows up in the numbers.
+ */
+public class DebugOverlay {
+
+    private static final int REFRESH_FRAMES = 15;
+    private static final Font FONT = new Font("Consolas", Font.PLAIN, 11);
+    private static final Color PANEL = new Color(0, 0, 0, 170);
+    private static final Color TEXT = new Color(170, 255, 170);
+
+    private final String[] lines = new String[FrameProfiler.phases().length + 1];
+    private final long[] buf = new long[4];
+    private int frames = REFRESH_FRAMES;
+
+    public void render(Renderer r, FrameProfiler profiler) {
+        if (++frames >= REFRESH_FRAMES) {
+            frames = 0;
+            refresh(profiler);
+        }
+
+        int w = 290, h = 16 + lines.length * 13;
+        int x = Constants.WINDOW_WIDTH - w - 10, y = Constants.WINDOW_HEIGHT - h - 10;
+        r.fillRect(x, y, w, h, PANEL);
+        for (int i = 0; i < lines.length; i++)
+            r.text(lines[i], x + 8, y + 16 + i * 13, FONT, TEXT);
+    }
+
+    private void refresh(FrameProfiler profiler) {
+        lines[0] = String.format("%-13s %6s %6s %6s %6s", "ms", "p50", "p95", "p99", "max");
+        FrameProfiler.Phase[] phases = FrameProfiler.phases();
+        for (int i = 0; i < phases.length; i++) {
+            profiler.stats(phases[i], buf);
+            lines[i + 1] = String.format("%-13s %6.2f %6.2f %6.2f %6.2f", phases[i].label,
+                    buf[0] / 1e6, buf[1] / 1e6, buf[2] / 1e6, buf[3] / 1e6);
+        }
+    }
+}
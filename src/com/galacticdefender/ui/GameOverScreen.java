@@ -1,6 +1,8 @@
 package com.galacticdefender.ui;
 
+import com.galacticdefender.engine.Renderer;
 import com.galacticdefender.utils.Constants;
+import com.galacticdefender.utils.GameClock;
 
 import java.awt.*;
 
@@ -9,62 +11,105 @@ import java.awt.*;
  */
 public class GameOverScreen {
 
+    private static final Color SHADE = UiCache.color(5, 5, 10);
+
+    // Rasterised text, shared by every copy of the screen (snapshots hold their own)
+    private static final int TITLE_Y = 140, SCORES_Y = 262, PROMPT_Y = 398, QUIT_Y = 434;
+    private static final HudWidget TITLE = new HudWidget(Constants.WINDOW_WIDTH, 100);
+    private static final HudWidget SCORES = new HudWidget(Constants.WINDOW_WIDTH, 104);
+    private static final HudWidget PROMPT = new HudWidget(Constants.WINDOW_WIDTH, 30);
+    private static final HudWidget QUIT = new HudWidget(Constants.WINDOW_WIDTH, 22);
+
     private float alpha = 0f;
+    private long time; // UI clock millis, drives the prompt blink
 
     public void reset() {
         alpha = 0f;
     }
 
-    public void update(float dt) {
+    public void update(float dt, GameClock clock) {
+        time = clock.millis();
         alpha = Math.min(1f, alpha + dt * 1.8f);
     }
 
-    public void render(Graphics2D g, int finalScore, int highScore) {
+    /** Copy animation state from the screen owned by the update thread. */
+    public void copyFrom(GameOverScreen other) {
+        alpha = other.alpha;
+        time = other.time;
+    }
+
+    public void render(Renderer r, int finalScore, int highScore) {
         int W = Constants.WINDOW_WIDTH, H = Constants.WINDOW_HEIGHT;
-        Composite prev = g.getComposite();
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha * 0.82f));
-        g.setColor(new Color(5, 5, 10));
-        g.fillRect(0, 0, W, H);
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
+        float prev = r.getAlpha();
+        r.setAlpha(alpha * 0.82f);
+        r.fillRect(0, 0, W, H, SHADE);
+        r.setAlpha(alpha);
 
         // GAME OVER title
-        g.setFont(new Font("Consolas", Font.BOLD, 72));
-        String go = "GAME OVER";
-        FontMetrics fm = g.getFontMetrics();
-        int tx = (W - fm.stringWidth(go)) / 2;
-        g.setColor(new Color(160, 30, 30));
-        g.drawString(go, tx + 4, 222);
-        g.setColor(new Color(230, 50, 50));
-        g.drawString(go, tx, 218);
-
-        // Scores
-        g.setFont(new Font("Consolas", Font.PLAIN, 24));
-        g.setColor(new Color(220, 220, 240));
+        if (TITLE.isStale(0)) {
+            Graphics2D wg = TITLE.begin(0);
+            wg.setFont(UiCache.font(Font.BOLD, 72));
+            String go = "GAME OVER";
+            FontMetrics fm = wg.getFontMetrics();
+            int tx = (W - fm.stringWidth(go)) / 2;
+            wg.setColor(UiCache.color(160, 30, 30));
+            wg.drawString(go, tx + 4, 222 - TITLE_Y);
+            wg.setColor(UiCache.color(230, 50, 50));
+            wg.drawString(go, tx, 218 - TITLE_Y);
+            TITLE.end();
+        }
+        TITLE.draw(r, 0, TITLE_Y);
+
+        // Scores (repainted only when either score changes)
+        long key = (long) finalScore << 32 | (highScore & 0xFFFFFFFFL);
+        if (SCORES.isStale(key)) {
+            paintScores(SCORES.begin(key), W, finalScore, highScore);
+            SCORES.end();
+        }
+        SCORES.draw(r, 0, SCORES_Y);
+
+        // Prompt
+        float blink = (time / 540) % 2 == 0 ? 1.0f : 0.3f;
+        r.setAlpha(alpha * blink);
+        if (PROMPT.isStale(0)) {
+            Graphics2D wg = PROMPT.begin(0);
+            wg.setFont(UiCache.font(Font.BOLD, 20));
+            wg.setColor(UiCache.color(100, 220, 130));
+            center(wg, "[ Press  R  to  Restart ]", W, 420 - PROMPT_Y);
+            PROMPT.end();
+        }
+        PROMPT.draw(r, 0, PROMPT_Y);
+
+        r.setAlpha(alpha);
+        if (QUIT.isStale(0)) {
+            Graphics2D wg = QUIT.begin(0);
+            wg.setFont(UiCache.font(Font.PLAIN, 14));
+            wg.setColor(UiCache.color(130, 130, 160));
+            center(wg, "Press  ESC  to  Quit", W, 450 - QUIT_Y);
+            QUIT.end();
+        }
+        QUIT.draw(r, 0, QUIT_Y);
+
+        r.setAlpha(prev);
+    }
+
+    /** Paints with y relative to SCORES_Y. */
+    private static void paintScores(Graphics2D g, int W, int finalScore, int highScore) {
+        g.translate(0, -SCORES_Y);
+        g.setFont(UiCache.font(Font.PLAIN, 24));
+        g.setColor(UiCache.color(220, 220, 240));
         center(g, "Final Score :  " + finalScore, W, 290);
-        g.setColor(new Color(255, 190, 50));
+        g.setColor(UiCache.color(255, 190, 50));
         center(g, "High Score  :  " + highScore, W, 322);
 
         if (finalScore >= highScore && finalScore > 0) {
-            g.setFont(new Font("Consolas", Font.BOLD, 17));
-            g.setColor(new Color(100, 230, 120));
+            g.setFont(UiCache.font(Font.BOLD, 17));
+            g.setColor(UiCache.color(100, 230, 120));
             center(g, "★  NEW HIGH SCORE  ★", W, 356);
         }
-
-        // Prompt
-        float blink = (System.currentTimeMillis() / 540) % 2 == 0 ? 1.0f : 0.3f;
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha * blink));
-        g.setFont(new Font("Consolas", Font.BOLD, 20));
-        g.setColor(new Color(100, 220, 130));
-        center(g, "[ Press  R  to  Restart ]", W, 420);
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
-        g.setFont(new Font("Consolas", Font.PLAIN, 14));
-        g.setColor(new Color(130, 130, 160));
-        center(g, "Press  ESC  to  Quit", W, 450);
-
-        g.setComposite(prev);
     }
 
-    private void center(Graphics2D g, String s, int W, int y) {
+    private static void center(Graphics2D g, String s, int W, int y) {
         FontMetrics fm = g.getFontMetrics();
         g.drawString(s, (W - fm.stringWidth(s)) / 2, y);
     }
@@ -1,8 +1,7 @@
 package com.galacticdefender.ui;
 
+import com.galacticdefender.engine.Renderer;
 import com.galacticdefender.objects.Player;
-import com.galacticdefender.managers.ScoreManager;
-import com.galacticdefender.managers.LevelManager;
 import com.galacticdefender.utils.Constants;
 
 import java.awt.*;
@@ -10,90 +9,147 @@ import java.awt.*;
 /**
  * Renders the in-game HUD overlay:
  * health bar, score, high score, level indicator, and active power-up timers.
+ *
+ * Each element is a retained HudWidget keyed on the value it shows (health,
+ * score, high score, level, or the pixel width of a power-up timer bar), so
+ * text and gradients are only rasterised again when that value changes.
  */
 public class GameScreen {
 
-    public void render(Graphics2D g, Player player, ScoreManager score, LevelManager level) {
-        int W = Constants.WINDOW_WIDTH;
+    private static final int W = Constants.WINDOW_WIDTH;
 
+    // ── Shared styles ──────────────────────────────────────────
+    private static final Font SMALL_BOLD = UiCache.font(Font.BOLD, 11);
+    private static final Font SMALL = UiCache.font(Font.PLAIN, 11);
+    private static final Font MEDIUM_BOLD = UiCache.font(Font.BOLD, 14);
+    private static final Stroke OUTLINE = UiCache.stroke(1.2f);
+    private static final Stroke THIN = UiCache.stroke(1f);
+    private static final Color PANEL = UiCache.color(15, 18, 28, 200);
+
+    // Health bar geometry (the widget adds a 2 px margin for the outline)
+    private static final int HX = 16, HY = 14, HW = 200, HH = 16;
+    private static final int TIMER_W = 60, TIMER_H = 20;
+
+    private final HudWidget health = new HudWidget(HW + 4, HH + 4);
+    private final HudWidget scorePanel = new HudWidget(180, 28);
+    private final HudWidget best = new HudWidget(180, 14);
+    private final HudWidget levelBadge = new HudWidget(96, 28);
+    private final HudWidget doubleShot = new HudWidget(TIMER_W + 2, TIMER_H + 2);
+    private final HudWidget shield = new HudWidget(TIMER_W + 2, TIMER_H + 2);
+    private final HudWidget speedBoost = new HudWidget(TIMER_W + 2, TIMER_H + 2);
+
+    /**
+     * Values are passed in (rather than the managers) so the HUD can be drawn
+     * from a snapshot on the render thread.
+     */
+    public void render(Renderer r, Player player, int score, int highScore,
+            int level, boolean bossLevel) {
         // ── Health Bar ─────────────────────────────────────────
-        int hx = 16, hy = 14, hw = 200, hh = 16;
-        g.setColor(new Color(20, 8, 8, 210));
-        g.fillRoundRect(hx, hy, hw, hh, 6, 6);
-
-        float ratio = (float) player.getHealth() / player.getMaxHealth();
-        Color hpColor = ratio > 0.6f ? new Color(60, 210, 80)
-                : ratio > 0.3f ? new Color(240, 180, 40)
-                        : new Color(230, 45, 45);
-        g.setPaint(new GradientPaint(hx, 0, hpColor.brighter(), hx + (int) (hw * ratio), 0, hpColor));
-        g.fillRoundRect(hx, hy, (int) (hw * ratio), hh, 6, 6);
-        g.setPaint(null);
-        g.setColor(new Color(180, 190, 210));
-        g.setStroke(new BasicStroke(1.2f));
-        g.drawRoundRect(hx, hy, hw, hh, 6, 6);
-        g.setStroke(new BasicStroke(1f));
-
-        g.setFont(new Font("Consolas", Font.BOLD, 11));
-        g.setColor(Color.WHITE);
-        g.drawString("HP  " + player.getHealth() + " / " + player.getMaxHealth(), hx + 4, hy + hh - 2);
+        if (health.isStale(player.getHealth())) {
+            paintHealth(health.begin(player.getHealth()), player.getHealth(), player.getMaxHealth());
+            health.end();
+        }
+        health.draw(r, HX - 2, HY - 2);
 
         // ── Score panel ────────────────────────────────────────
-        g.setColor(new Color(15, 18, 28, 200));
-        g.fillRoundRect(W / 2 - 90, 8, 180, 28, 8, 8);
-        g.setFont(new Font("Consolas", Font.BOLD, 14));
-        g.setColor(new Color(255, 200, 60));
-        String sc = "SCORE  " + score.getScore();
-        FontMetrics fm = g.getFontMetrics();
-        g.drawString(sc, W / 2 - fm.stringWidth(sc) / 2, 26);
+        if (scorePanel.isStale(score)) {
+            Graphics2D wg = scorePanel.begin(score);
+            wg.setColor(PANEL);
+            wg.fillRoundRect(0, 0, 180, 28, 8, 8);
+            wg.setFont(MEDIUM_BOLD);
+            wg.setColor(UiCache.color(255, 200, 60));
+            center(wg, "SCORE  " + score, 180, 18);
+            scorePanel.end();
+        }
+        scorePanel.draw(r, W / 2 - 90, 8);
 
         // High score
-        g.setFont(new Font("Consolas", Font.PLAIN, 11));
-        g.setColor(new Color(160, 170, 200));
-        String hs = "BEST  " + score.getHighScore();
-        fm = g.getFontMetrics();
-        g.drawString(hs, W / 2 - fm.stringWidth(hs) / 2, 44);
+        if (best.isStale(highScore)) {
+            Graphics2D wg = best.begin(highScore);
+            wg.setFont(SMALL);
+            wg.setColor(UiCache.color(160, 170, 200));
+            center(wg, "BEST  " + highScore, 180, 11);
+            best.end();
+        }
+        best.draw(r, W / 2 - 90, 33);
 
         // ── Level badge ────────────────────────────────────────
-        g.setColor(new Color(15, 18, 28, 200));
-        g.fillRoundRect(W - 110, 8, 96, 28, 8, 8);
-        g.setFont(new Font("Consolas", Font.BOLD, 14));
-        g.setColor(new Color(100, 200, 255));
-        String lv = level.isBossLevel() ? "BOSS!" : "LEVEL  " + level.getLevel();
-        fm = g.getFontMetrics();
-        g.drawString(lv, W - 110 + (96 - fm.stringWidth(lv)) / 2, 26);
+        long levelKey = bossLevel ? -1 : level;
+        if (levelBadge.isStale(levelKey)) {
+            Graphics2D wg = levelBadge.begin(levelKey);
+            wg.setColor(PANEL);
+            wg.fillRoundRect(0, 0, 96, 28, 8, 8);
+            wg.setFont(MEDIUM_BOLD);
+            wg.setColor(UiCache.color(100, 200, 255));
+            center(wg, bossLevel ? "BOSS!" : "LEVEL  " + level, 96, 18);
+            levelBadge.end();
+        }
+        levelBadge.draw(r, W - 110, 8);
 
         // ── Active power-up timers ─────────────────────────────
         int px = 16, py = 42;
         if (player.isDoubleShotActive()) {
-            drawPowerTimer(g, "2x", new Color(255, 200, 50), player.getDoubleShotTimer(),
+            drawPowerTimer(r, doubleShot, "2x", UiCache.color(255, 200, 50), player.getDoubleShotTimer(),
                     Constants.DOUBLE_BULLET_DURATION, px, py);
             px += 68;
         }
         if (player.isShieldActive()) {
-            drawPowerTimer(g, "SH", new Color(80, 160, 255), player.getShieldTimer(),
+            drawPowerTimer(r, shield, "SH", UiCache.color(80, 160, 255), player.getShieldTimer(),
                     Constants.SHIELD_DURATION, px, py);
             px += 68;
         }
         if (player.isSpeedBoostActive()) {
-            drawPowerTimer(g, ">>", new Color(50, 230, 130), player.getSpeedBoostTimer(),
+            drawPowerTimer(r, speedBoost, ">>", UiCache.color(50, 230, 130), player.getSpeedBoostTimer(),
                     Constants.SPEED_BOOST_DURATION, px, py);
         }
     }
 
-    private void drawPowerTimer(Graphics2D g, String lbl, Color c,
-            long remaining, long total, int x, int y) {
-        g.setColor(new Color(18, 22, 34, 200));
-        g.fillRoundRect(x, y, 60, 20, 6, 6);
-        float ratio = (float) remaining / total;
-        g.setColor(new Color(c.getRed(), c.getGreen(), c.getBlue(), 180));
-        g.fillRoundRect(x, y, (int) (60 * ratio), 20, 6, 6);
-        g.setColor(c);
-        g.setStroke(new BasicStroke(1.2f));
-        g.drawRoundRect(x, y, 60, 20, 6, 6);
-        g.setStroke(new BasicStroke(1f));
-        g.setFont(new Font("Consolas", Font.BOLD, 11));
+    private static void paintHealth(Graphics2D g, int hp, int maxHp) {
+        g.translate(2, 2);
+        g.setColor(UiCache.color(20, 8, 8, 210));
+        g.fillRoundRect(0, 0, HW, HH, 6, 6);
+
+        float ratio = (float) hp / maxHp;
+        Color hpColor = ratio > 0.6f ? UiCache.color(60, 210, 80)
+                : ratio > 0.3f ? UiCache.color(240, 180, 40)
+                        : UiCache.color(230, 45, 45);
+        g.setPaint(new GradientPaint(0, 0, hpColor.brighter(), (int) (HW * ratio), 0, hpColor));
+        g.fillRoundRect(0, 0, (int) (HW * ratio), HH, 6, 6);
+        g.setColor(UiCache.color(180, 190, 210));
+        g.setStroke(OUTLINE);
+        g.drawRoundRect(0, 0, HW, HH, 6, 6);
+
+        g.setFont(SMALL_BOLD);
         g.setColor(Color.WHITE);
+        g.drawString("HP  " + hp + " / " + maxHp, 4, HH - 2);
+    }
+
+    /** Timer bars are keyed on their fill width, so they repaint at most 60 times. */
+    private static void drawPowerTimer(Renderer r, HudWidget widget, String lbl, Color c,
+            long remaining, long total, int x, int y) {
+        int fill = (int) (TIMER_W * ((float) remaining / total));
+        if (widget.isStale(fill)) {
+            Graphics2D wg = widget.begin(fill);
+            wg.translate(1, 1);
+            wg.setColor(UiCache.color(18, 22, 34, 200));
+            wg.fillRoundRect(0, 0, TIMER_W, TIMER_H, 6, 6);
+            wg.setColor(UiCache.color(c.getRed(), c.getGreen(), c.getBlue(), 180));
+            wg.fillRoundRect(0, 0, fill, TIMER_H, 6, 6);
+            wg.setColor(c);
+            wg.setStroke(OUTLINE);
+            wg.drawRoundRect(0, 0, TIMER_W, TIMER_H, 6, 6);
+            wg.setStroke(THIN);
+            wg.setFont(SMALL_BOLD);
+            wg.setColor(Color.WHITE);
+            FontMetrics fm = wg.getFontMetrics();
+            wg.drawString(lbl, (TIMER_W - fm.stringWidth(lbl)) / 2, 14);
+            widget.end();
+        }
+        widget.draw(r, x - 1, y - 1);
+    }
+
+    private static void center(Graphics2D g, String s, int w, int y) {
         FontMetrics fm = g.getFontMetrics();
-        g.drawString(lbl, x + (60 - fm.stringWidth(lbl)) / 2, y + 14);
+        g.drawString(s, (w - fm.stringWidth(s)) / 2, y);
     }
 }
@@ -0,0 +1,75 @@
+package com.galacticdefender.ui;
+
+import com.galacticdefender.engine.Renderer;
+import com.galacticdefender.engine.ResourceLoader;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * A retained piece of UI: a small translucent raster that is repainted
+ * only when the value it shows changes, and otherwise drawn as one blit.
+ *
+ * Usage, once per frame:
+ * <pre>
+ * if (widget.isStale(value)) {
+ *     Graphics2D wg = widget.begin(value);
+ *     ... paint at the widget's own coordinates ...
+ *     widget.end();
+ * }
+ * widget.draw(r, x, y);
+ * </pre>
+ * The raster is allocated on first use, so headless runs never create one.
+ * Not thread-safe; used from the render thread only.
+ */
+final class HudWidget {
+
+    private final int width, height;
+    private BufferedImage image;
+    private Graphics2D painting;
+    private long key;
+    private boolean valid;
+    private boolean changed; // repainted since the renderer last saw it
+
+    HudWidget(int width, int height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    /** True if the widget has never been painted or last showed another value. */
+    boolean isStale(long value) {
+        return !valid || value != key;
+    }
+
+    /** Clear the raster and return a Graphics to paint it; record the value. */
+    Graphics2D begin(long value) {
+        if (image == null)
+            image = ResourceLoader.compatibleImage(width, height, Transparency.TRANSLUCENT);
+        painting = image.createGraphics();
+        painting.setComposite(AlphaComposite.Clear);
+        painting.fillRect(0, 0, width, height);
+        painting.setComposite(AlphaComposite.SrcOver);
+        painting.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        painting.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        key = value;
+        valid = true;
+        return painting;
+    }
+
+    void end() {
+        painting.dispose();
+        painting = null;
+        changed = true;
+    }
+
+    /** Blit the last painted raster with its top-left corner at (x, y). */
+    void draw(Renderer r, int x, int y) {
+        if (image == null)
+            return;
+        if (changed) {
+            r.imageChanged(image);
+            changed = false;
+        }
+        r.image(image, x, y);
+    }
+}
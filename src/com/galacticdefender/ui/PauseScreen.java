@@ -1,43 +1,56 @@
 package com.galacticdefender.ui;
 
+import com.galacticdefender.engine.Renderer;
 import com.galacticdefender.utils.Constants;
 
 import java.awt.*;
 
 /**
  * Semi-transparent pause overlay with resume and quit options.
+ * The panel never changes, so it is rasterised once and then blitted.
  */
 public class PauseScreen {
 
-    public void render(Graphics2D g) {
+    private static final int PW = 320, PH = 200, MARGIN = 2;
+    private static final Color DIM = UiCache.color(8, 10, 20);
+
+    private static final HudWidget PANEL = new HudWidget(PW + MARGIN * 2, PH + MARGIN * 2);
+
+    public void render(Renderer r) {
         int W = Constants.WINDOW_WIDTH, H = Constants.WINDOW_HEIGHT;
-        Composite prev = g.getComposite();
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.62f));
-        g.setColor(new Color(8, 10, 20));
-        g.fillRect(0, 0, W, H);
-        g.setComposite(AlphaComposite.SrcOver);
-
-        // Panel
-        g.setColor(new Color(22, 27, 42, 230));
-        g.fillRoundRect(W / 2 - 160, H / 2 - 100, 320, 200, 16, 16);
-        g.setColor(new Color(80, 100, 160, 180));
-        g.setStroke(new BasicStroke(1.5f));
-        g.drawRoundRect(W / 2 - 160, H / 2 - 100, 320, 200, 16, 16);
-        g.setStroke(new BasicStroke(1f));
-
-        g.setFont(new Font("Consolas", Font.BOLD, 36));
-        g.setColor(new Color(200, 210, 255));
-        center(g, "PAUSED", W, H / 2 - 42);
-
-        g.setFont(new Font("Consolas", Font.PLAIN, 16));
-        g.setColor(new Color(160, 170, 200));
-        center(g, "P  ·  Resume", W, H / 2 + 8);
-        center(g, "ESC  ·  Quit to Desktop", W, H / 2 + 36);
-
-        g.setComposite(prev);
+        float prev = r.getAlpha();
+        r.setAlpha(0.62f);
+        r.fillRect(0, 0, W, H, DIM);
+        r.setAlpha(1f);
+
+        if (PANEL.isStale(0)) {
+            paintPanel(PANEL.begin(0));
+            PANEL.end();
+        }
+        PANEL.draw(r, W / 2 - PW / 2 - MARGIN, H / 2 - PH / 2 - MARGIN);
+
+        r.setAlpha(prev);
+    }
+
+    private static void paintPanel(Graphics2D g) {
+        g.translate(MARGIN, MARGIN);
+        g.setColor(UiCache.color(22, 27, 42, 230));
+        g.fillRoundRect(0, 0, PW, PH, 16, 16);
+        g.setColor(UiCache.color(80, 100, 160, 180));
+        g.setStroke(UiCache.stroke(1.5f));
+        g.drawRoundRect(0, 0, PW, PH, 16, 16);
+
+        g.setFont(UiCache.font(Font.BOLD, 36));
+        g.setColor(UiCache.color(200, 210, 255));
+        center(g, "PAUSED", PW, PH / 2 - 42);
+
+        g.setFont(UiCache.font(Font.PLAIN, 16));
+        g.setColor(UiCache.color(160, 170, 200));
+        center(g, "P  ·  Resume", PW, PH / 2 + 8);
+        center(g, "ESC  ·  Quit to Desktop", PW, PH / 2 + 36);
     }
 
-    private void center(Graphics2D g, String s, int W, int y) {
+    private static void center(Graphics2D g, String s, int W, int y) {
         FontMetrics fm = g.getFontMetrics();
         g.drawString(s, (W - fm.stringWidth(s)) / 2, y);
     }
@@ -1,6 +1,8 @@
 package com.galacticdefender.ui;
 
+import com.galacticdefender.engine.Renderer;
 import com.galacticdefender.utils.Constants;
+import com.galacticdefender.utils.GameClock;
 
 import java.awt.*;
 import java.awt.event.KeyEvent;
@@ -11,88 +13,147 @@ import java.awt.event.KeyEvent;
  */
 public class StartScreen {
 
+    private static final Color SHADE = UiCache.color(0, 0, 0, 150);
+    private static final Color SCANLINE = UiCache.color(255, 255, 255, 12);
+
+    // Static text, shared by every copy of the screen (snapshots hold their own)
+    private static final int BODY_Y = 110, PROMPT_Y = 494, EXIT_Y = 534;
+    private static final HudWidget BODY = new HudWidget(Constants.WINDOW_WIDTH, 380);
+    private static final HudWidget PROMPT = new HudWidget(Constants.WINDOW_WIDTH, 36);
+    private static final HudWidget EXIT = new HudWidget(Constants.WINDOW_WIDTH, 22);
+
+    // Loading bar, shown in place of the ENTER prompt
+    private static final int BAR_W = 300, BAR_H = 6, BAR_Y = 502;
+    private static final Color BAR_TRACK = UiCache.color(60, 60, 80);
+    private static final Color BAR_FILL = UiCache.color(100, 230, 120);
+    private static final Color BAR_TEXT = UiCache.color(140, 140, 160);
+    private static final Font BAR_FONT = UiCache.font(Font.BOLD, 13);
+
     private float titleAlpha = 0f;
     private float scanlineY = 0f;
+    private long time; // UI clock millis, drives the prompt blink
+    private float loadProgress = 1f; // < 1 while assets are still loading
 
-    public void update(float dt) {
+    public void update(float dt, GameClock clock) {
+        time = clock.millis();
         if (titleAlpha < 1f)
             titleAlpha = Math.min(1f, titleAlpha + dt * 1.4f);
         scanlineY = (scanlineY + 60 * dt) % Constants.WINDOW_HEIGHT;
     }
 
-    public void render(Graphics2D g) {
+    /** Copy animation state from the screen owned by the update thread. */
+    public void copyFrom(StartScreen other) {
+        titleAlpha = other.titleAlpha;
+        scanlineY = other.scanlineY;
+        time = other.time;
+        loadProgress = other.loadProgress;
+    }
+
+    public void setLoadProgress(float progress) {
+        loadProgress = progress;
+    }
+
+    public void render(Renderer r) {
         int W = Constants.WINDOW_WIDTH, H = Constants.WINDOW_HEIGHT;
 
         // Dark base overlay (drawn on top of the background)
-        g.setColor(new Color(0, 0, 0, 150));
-        g.fillRect(0, 0, W, H);
+        r.fillRect(0, 0, W, H, SHADE);
 
         // Moving scanline for CRT effect
-        g.setColor(new Color(255, 255, 255, 12));
         for (int y = (int) scanlineY; y < H; y += 6)
-            g.fillRect(0, y, W, 1);
+            r.fillRect(0, y, W, 1, SCANLINE);
+
+        // Title, subtitle and controls: static, rasterised once
+        float prev = r.getAlpha();
+        r.setAlpha(titleAlpha);
+        if (BODY.isStale(0)) {
+            paintBody(BODY.begin(0), W);
+            BODY.end();
+        }
+        BODY.draw(r, 0, BODY_Y);
+
+        // Loading bar until the assets are ready, then press ENTER to start
+        if (loadProgress < 1f) {
+            renderProgress(r, W);
+        } else {
+            float blink = (time / 500) % 2 == 0 ? 1.0f : 0.45f;
+            r.setAlpha(blink * titleAlpha);
+            if (PROMPT.isStale(0)) {
+                Graphics2D wg = PROMPT.begin(0);
+                wg.setFont(UiCache.font(Font.BOLD, 22));
+                wg.setColor(UiCache.color(100, 230, 120));
+                center(wg, "[ PRESS  ENTER  TO  START ]", W, 520 - PROMPT_Y);
+                PROMPT.end();
+            }
+            PROMPT.draw(r, 0, PROMPT_Y);
+        }
+
+        r.setAlpha(titleAlpha);
+        if (EXIT.isStale(0)) {
+            Graphics2D wg = EXIT.begin(0);
+            wg.setFont(UiCache.font(Font.PLAIN, 13));
+            wg.setColor(UiCache.color(140, 140, 160));
+            center(wg, "Press  ESC  to  Exit", W, 550 - EXIT_Y);
+            EXIT.end();
+        }
+        EXIT.draw(r, 0, EXIT_Y);
+
+        r.setAlpha(prev);
+    }
+
+    private void renderProgress(Renderer r, int W) {
+        int bx = W / 2 - BAR_W / 2;
+        r.fillRect(bx, BAR_Y, BAR_W, BAR_H, BAR_TRACK);
+        r.fillRect(bx, BAR_Y, (int) (BAR_W * loadProgress), BAR_H, BAR_FILL);
+        String label = "LOADING  " + (int) (loadProgress * 100) + "%";
+        r.text(label, (W - r.textWidth(label, BAR_FONT)) / 2, BAR_Y + BAR_H + 22, BAR_FONT, BAR_TEXT);
+    }
 
-        // Title
-        Composite prev = g.getComposite();
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, titleAlpha));
+    /** Paints with y relative to BODY_Y. */
+    private static void paintBody(Graphics2D g, int W) {
+        g.translate(0, -BODY_Y);
 
-        g.setFont(new Font("Consolas", Font.BOLD, 68));
+        g.setFont(UiCache.font(Font.BOLD, 68));
         String title = "GALACTIC DEFENDER";
         FontMetrics fm = g.getFontMetrics();
         int tx = (W - fm.stringWidth(title)) / 2;
 
         // Shadow
-        g.setColor(new Color(200, 80, 0));
+        g.setColor(UiCache.color(200, 80, 0));
         g.drawString(title, tx + 3, 195);
         // Main
-        g.setColor(new Color(255, 140, 0));
+        g.setColor(UiCache.color(255, 140, 0));
         g.drawString(title, tx, 192);
 
         // Subtitle
-        g.setFont(new Font("Consolas", Font.PLAIN, 18));
-        String sub = "Industrial Combat  ·  2D Side-Scroller";
-        int sx = (W - g.getFontMetrics().stringWidth(sub)) / 2;
-        g.setColor(new Color(190, 190, 210));
-        g.drawString(sub, sx, 228);
+        g.setFont(UiCache.font(Font.PLAIN, 18));
+        g.setColor(UiCache.color(190, 190, 210));
+        center(g, "Industrial Combat  ·  2D Side-Scroller", W, 228);
 
         // Controls box
         drawPanel(g, W / 2 - 200, 280, 400, 200);
-        g.setFont(new Font("Consolas", Font.BOLD, 15));
-        g.setColor(new Color(255, 200, 80));
+        g.setFont(UiCache.font(Font.BOLD, 15));
+        g.setColor(UiCache.color(255, 200, 80));
         center(g, "CONTROLS", W, 314);
-        g.setFont(new Font("Consolas", Font.PLAIN, 13));
-        g.setColor(new Color(200, 210, 230));
+        g.setFont(UiCache.font(Font.PLAIN, 13));
+        g.setColor(UiCache.color(200, 210, 230));
         center(g, "← → Arrow Keys  ·  Move", W, 340);
         center(g, "↑ Arrow Key      ·  Jump", W, 360);
         center(g, "SPACE           ·  Shoot", W, 380);
         center(g, "P                ·  Pause", W, 400);
         center(g, "R                ·  Restart (Game Over)", W, 420);
-
-        // Press ENTER to start
-        float blink = (System.currentTimeMillis() / 500) % 2 == 0 ? 1.0f : 0.45f;
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, blink * titleAlpha));
-        g.setFont(new Font("Consolas", Font.BOLD, 22));
-        g.setColor(new Color(100, 230, 120));
-        center(g, "[ PRESS  ENTER  TO  START ]", W, 520);
-
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, titleAlpha));
-        g.setFont(new Font("Consolas", Font.PLAIN, 13));
-        g.setColor(new Color(140, 140, 160));
-        center(g, "Press  ESC  to  Exit", W, 550);
-
-        g.setComposite(prev);
     }
 
-    private void drawPanel(Graphics2D g, int x, int y, int w, int h) {
-        g.setColor(new Color(20, 24, 35, 200));
+    private static void drawPanel(Graphics2D g, int x, int y, int w, int h) {
+        g.setColor(UiCache.color(20, 24, 35, 200));
         g.fillRoundRect(x, y, w, h, 14, 14);
-        g.setColor(new Color(80, 90, 130, 180));
-        g.setStroke(new BasicStroke(1.5f));
+        g.setColor(UiCache.color(80, 90, 130, 180));
+        g.setStroke(UiCache.stroke(1.5f));
         g.drawRoundRect(x, y, w, h, 14, 14);
-        g.setStroke(new BasicStroke(1f));
+        g.setStroke(UiCache.stroke(1f));
     }
 
-    private void center(Graphics2D g, String s, int W, int y) {
+    private static void center(Graphics2D g, String s, int W, int y) {
         FontMetrics fm = g.getFontMetrics();
         g.drawString(s, (W - fm.stringWidth(s)) / 2, y);
     }
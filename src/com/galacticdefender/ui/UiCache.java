@@ -0,0 +1,39 @@
+package com.galacticdefender.ui;
+
+import java.awt.*;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Shared font, colour and stroke cache for every UI screen.
+ * Screens resolve what they need once into static fields instead of
+ * allocating Fonts, Colors and Strokes on each frame; identical requests
+ * from different screens return the same instance.
+ */
+public final class UiCache {
+    private UiCache() {
+    }
+
+    /** Family used by all HUD and menu text. */
+    public static final String FONT_FAMILY = "Consolas";
+
+    private static final Map<Integer, Font> fonts = new HashMap<>();
+    private static final Map<Integer, Color> colors = new HashMap<>();
+    private static final Map<Float, BasicStroke> strokes = new HashMap<>();
+
+    public static synchronized Font font(int style, int size) {
+        return fonts.computeIfAbsent(style << 16 | size, k -> new Font(FONT_FAMILY, style, size));
+    }
+
+    public static Color color(int r, int g, int b) {
+        return color(r, g, b, 255);
+    }
+
+    public static synchronized Color color(int r, int g, int b, int a) {
+        return colors.computeIfAbsent(a << 24 | r << 16 | g << 8 | b, k -> new Color(r, g, b, a));
+    }
+
+    public static synchronized BasicStroke stroke(float width) {
+        return strokes.computeIfAbsent(width, BasicStroke::new);
+    }
+}
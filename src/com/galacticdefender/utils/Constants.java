@@ -9,12 +9,27 @@ public final class Constants {
     public static final int WINDOW_HEIGHT = 700;
     public static final int FPS           = 60;
 
+    // Fixed-timestep loop
+    public static final float FIXED_DT           = 1f / FPS; // s per simulation step
+    public static final int   MAX_CATCH_UP_STEPS = 5;        // steps per frame before dropping time
+
     // Physics
     public static final float GRAVITY              = 900f;   // px/s²
     public static final float PLAYER_RUN_SPEED     = 260f;   // px/s
     public static final float PLAYER_JUMP_VELOCITY = -560f;  // px/s (negative = up)
     public static final float BULLET_SPEED         = 680f;   // px/s
 
+    // Collision broad phase
+    public static final int GRID_CELL_SIZE = 64;  // px per uniform-grid cell
+
+    // Parallel update (entity counts below which a stage stays single-threaded)
+    public static final int PARALLEL_MIN_OBJECTS = 1_000;
+    public static final int PARALLEL_MIN_BULLETS = 20_000;
+
+    // Object pools (max idle instances kept for reuse)
+    public static final int BULLET_POOL_CAP    = 512;
+    public static final int EXPLOSION_POOL_CAP = 64;
+
     // Player
     public static final int  PLAYER_MAX_HEALTH     = 100;
     public static final long GUN_COOLDOWN_MS        = 250;   // ms between shots
@@ -36,7 +51,10 @@ public final class Constants {
     public static final String IMG_ENEMY_FAST   = "assets/images/enemy_fast.png";
     public static final String IMG_ENEMY_BOSS   = "assets/images/enemy_boss.png";
     public static final String IMG_POWERUP      = "assets/images/powerup.png";
+    public static final String WAVES_FILE       = "assets/waves/waves.json";
 
     // File I/O
-    public static final String HIGHSCORE_FILE = "highscore.txt";
+    public static final String STATS_FILE          = "stats.gdl";      // StatsStore log
+    public static final String HIGHSCORE_FILE      = "highscore.txt";  // legacy, migrated into STATS_FILE
+    public static final long   STATS_CHECKPOINT_MS = 5_000L;           // game time between run snapshots
 }
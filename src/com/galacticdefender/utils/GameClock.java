@@ -0,0 +1,44 @@
+package com.galacticdefender.utils;
+
+/**
+ * Simulation time: advanced by the game loop once per step by that step's
+ * dt, never read from the wall clock. Timers measured against it stop
+ * while the clock is not advanced (pause), run at whatever speed the steps
+ * are driven (headless fast-forward) and repeat exactly on replay.
+ *
+ * GameEngine owns the clock the game world runs on and injects it into
+ * the systems that time things (Player, SpawnManager); GamePanel keeps a
+ * second one for UI animation that also runs on menus. Only the game loop
+ * thread may advance or read a clock.
+ */
+public class GameClock {
+
+    private long ticks;
+    private long nanos;
+
+    /** Advance by one step of dt seconds. */
+    public void advance(float dt) {
+        ticks++;
+        nanos += Math.round(dt * 1_000_000_000.0);
+    }
+
+    /** Steps taken so far. */
+    public long ticks() {
+        return ticks;
+    }
+
+    /** Simulated time so far, in nanoseconds. */
+    public long nanos() {
+        return nanos;
+    }
+
+    /** Simulated time so far, in milliseconds. */
+    public long millis() {
+        return nanos / 1_000_000L;
+    }
+
+    /** Simulated time so far, in seconds. */
+    public float seconds() {
+        return nanos / 1_000_000_000f;
+    }
+}
@@ -0,0 +1,39 @@
+package com.galacticdefender.utils;
+
+import java.util.Random;
+
+/**
+ * The one random number generator every gameplay system draws from, so a
+ * run is reproducible from its seed (see InputRecorder / InputReplay).
+ *
+ * Seeded from -Dgd.seed when given, otherwise from the clock. Only the
+ * game loop thread may draw from it; anything else would make the
+ * sequence depend on thread timing.
+ */
+public final class GameRandom {
+    private GameRandom() {
+    }
+
+    private static final Random rng = new Random();
+    private static long seed;
+
+    static {
+        reseed(Long.getLong("gd.seed", System.nanoTime()));
+    }
+
+    /** The shared generator. Keep the reference: reseeding resets it in place. */
+    public static Random get() {
+        return rng;
+    }
+
+    /** Restart the sequence from seed (replays set the recorded one). */
+    public static void reseed(long seed) {
+        GameRandom.seed = seed;
+        rng.setSeed(seed);
+    }
+
+    /** The seed the current sequence started from. */
+    public static long seed() {
+        return seed;
+    }
+}
@@ -0,0 +1,174 @@
+package com.galacticdefender.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal JSON reader for game data files (wave scripts). Produces plain
+ * Java values: Map (object, key order kept), List (array), Double, String,
+ * Boolean or null. Malformed input throws IllegalArgumentException with
+ * the character offset.
+ */
+public final class Json {
+
+    private final String src;
+    private int pos;
+
+    private Json(String src) {
+        this.src = src;
+    }
+
+    /** Parse one JSON document. */
+    public static Object parse(String text) {
+        Json p = new Json(text);
+        Object v = p.value();
+        p.skipSpace();
+        if (p.pos != text.length())
+            throw p.error("Trailing characters");
+        return v;
+    }
+
+    private Object value() {
+        skipSpace();
+        if (pos >= src.length())
+            throw error("Unexpected end of input");
+        char c = src.charAt(pos);
+        switch (c) {
+            case '{':
+                return object();
+            case '[':
+                return array();
+            case '"':
+                return string();
+            case 't':
+                return literal("true", Boolean.TRUE);
+            case 'f':
+                return literal("false", Boolean.FALSE);
+            case 'n':
+                return literal("null", null);
+            default:
+                if (c == '-' || (c >= '0' && c <= '9'))
+                    return number();
+                throw error("Unexpected '" + c + "'");
+        }
+    }
+
+    private Map<String, Object> object() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        pos++; // {
+        skipSpace();
+        if (peek() == '}') {
+            pos++;
+            return map;
+        }
+        while (true) {
+            skipSpace();
+            if (peek() != '"')
+                throw error("Expected key");
+            String key = string();
+            skipSpace();
+            expect(':');
+            map.put(key, value());
+            skipSpace();
+            if (peek() == ',') {
+                pos++;
+                continue;
+            }
+            expect('}');
+            return map;
+        }
+    }
+
+    private List<Object> array() {
+        List<Object> list = new ArrayList<>();
+        pos++; // [
+        skipSpace();
+        if (peek() == ']') {
+            pos++;
+            return list;
+        }
+        while (true) {
+            list.add(value());
+            skipSpace();
+            if (peek() == ',') {
+                pos++;
+                continue;
+            }
+            expect(']');
+            return list;
+        }
+    }
+
+    private String string() {
+        pos++; // opening quote
+        StringBuilder sb = new StringBuilder();
+        while (true) {
+            if (pos >= src.length())
+                throw error("Unterminated string");
+            char c = src.charAt(pos++);
+            if (c == '"')
+                return sb.toString();
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            if (pos >= src.length())
+                throw error("Unterminated string");
+            char e = src.charAt(pos++);
+            switch (e) {
+                case 'n' -> sb.append('\n');
+                case 't' -> sb.append('\t');
+                case 'r' -> sb.append('\r');
+                case 'b' -> sb.append('\b');
+                case 'f' -> sb.append('\f');
+                case 'u' -> {
+                    if (pos + 4 > src.length())
+                        throw error("Bad \\u escape");
+                    sb.append((char) Integer.parseInt(src.substring(pos, pos + 4), 16));
+                    pos += 4;
+                }
+                default -> sb.append(e); // \" \\ \/
+            }
+        }
+    }
+
+    private Double number() {
+        int start = pos;
+        while (pos < src.length() && "+-0123456789.eE".indexOf(src.charAt(pos)) >= 0)
+            pos++;
+        try {
+            return Double.valueOf(src.substring(start, pos));
+        } catch (NumberFormatException e) {
+            pos = start;
+            throw error("Bad number");
+        }
+    }
+
+    private Object literal(String word, Object v) {
+        if (!src.startsWith(word, pos))
+            throw error("Unexpected token");
+        pos += word.length();
+        return v;
+    }
+
+    private void skipSpace() {
+        while (pos < src.length() && Character.isWhitespace(src.charAt(pos)))
+            pos++;
+    }
+
+    private char peek() {
+        return pos < src.length() ? src.charAt(pos) : '\0';
+    }
+
+    private void expect(char c) {
+        if (peek() != c)
+            throw error("Expected '" + c + "'");
+        pos++;
+    }
+
+    private IllegalArgumentException error(String msg) {
+        return new IllegalArgumentException(msg + " at offset " + pos);
+    }
+}
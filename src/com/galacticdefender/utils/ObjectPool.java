@@ -0,0 +1,81 @@
+package com.galacticdefender.utils;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * Bounded free-list of reusable instances.
+ * acquire() hands out a pooled instance when one is available (a hit) and
+ * falls back to the factory otherwise (a miss). release() keeps an instance
+ * for later reuse unless the pool already holds {@code capacity} of them,
+ * in which case the instance is left to the garbage collector.
+ *
+ * Not thread-safe: pools are only touched from the game loop thread.
+ */
+public class ObjectPool<T> {
+
+    private final Supplier<T> factory;
+    private final ArrayDeque<T> free;
+    private int capacity;
+
+    private long hits, misses, discards;
+
+    public ObjectPool(Supplier<T> factory, int capacity) {
+        this.factory = factory;
+        this.capacity = Math.max(0, capacity);
+        this.free = new ArrayDeque<>(Math.max(16, this.capacity));
+    }
+
+    /** Take a pooled instance, or create one if the pool is empty. */
+    public T acquire() {
+        T obj = free.pollLast();
+        if (obj != null) {
+            hits++;
+            return obj;
+        }
+        misses++;
+        return factory.get();
+    }
+
+    /** Return an instance to the pool; dropped if the pool is full. */
+    public void release(T obj) {
+        if (free.size() < capacity)
+            free.addLast(obj);
+        else
+            discards++;
+    }
+
+    /** Change the cap; surplus pooled instances are dropped immediately. */
+    public void setCapacity(int capacity) {
+        this.capacity = Math.max(0, capacity);
+        while (free.size() > this.capacity)
+            free.pollLast();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /** Number of idle instances currently held. */
+    public int size() {
+        return free.size();
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getDiscards() {
+        return discards;
+    }
+
+    @Override
+    public String toString() {
+        return "pool[" + free.size() + "/" + capacity + "] hits=" + hits
+                + " misses=" + misses + " discards=" + discards;
+    }
+}
@@ -0,0 +1,116 @@
+package com.galacticdefender.utils;
+
+import com.galacticdefender.objects.Platform;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable lookup of platform tops for landing checks, built once per
+ * layout by World.init().
+ *
+ * Platforms are bucketed into fixed-width x columns; each column keeps its
+ * platforms sorted by top. A query looks only at the columns its x-span
+ * touches and, in each, binary-searches to the tops that lie between the
+ * entity's previous and current bottom edge. Nothing is allocated and the
+ * cost does not grow with the number of platforms elsewhere in the level.
+ */
+public final class PlatformIndex {
+
+    /** px a falling box may already have sunk below a top and still land on it. */
+    public static final float LANDING_TOLERANCE = 4f;
+
+    private static final int COLUMN = 64; // px per bucket
+
+    private final float originX;
+    private final int columns;
+    private final int[][] buckets; // per column: platform ids, sorted by top
+    private final float[] left, right, top, bottom; // per platform id
+
+    private PlatformIndex(List<Platform> platforms) {
+        int n = platforms.size();
+        left = new float[n];
+        right = new float[n];
+        top = new float[n];
+        bottom = new float[n];
+        float minX = Float.MAX_VALUE, maxX = -Float.MAX_VALUE;
+        for (int i = 0; i < n; i++) {
+            Platform p = platforms.get(i);
+            left[i] = p.getX();
+            right[i] = p.getX() + p.getWidth();
+            top[i] = p.getY();
+            bottom[i] = p.getY() + p.getHeight();
+            minX = Math.min(minX, left[i]);
+            maxX = Math.max(maxX, right[i]);
+        }
+        originX = n == 0 ? 0 : minX;
+        columns = n == 0 ? 0 : (int) ((maxX - minX) / COLUMN) + 1;
+
+        List<List<Integer>> cols = new ArrayList<>(columns);
+        for (int c = 0; c < columns; c++)
+            cols.add(new ArrayList<>());
+        for (int i = 0; i < n; i++)
+            for (int c = column(left[i]); c <= column(right[i]); c++)
+                cols.get(c).add(i);
+        buckets = new int[columns][];
+        for (int c = 0; c < columns; c++)
+            buckets[c] = cols.get(c).stream()
+                    .sorted((a, b) -> Float.compare(top[a], top[b]))
+                    .mapToInt(Integer::intValue).toArray();
+    }
+
+    /** Index the given layout (the list is copied; later changes are not seen). */
+    public static PlatformIndex build(List<Platform> platforms) {
+        return new PlatformIndex(platforms);
+    }
+
+    /**
+     * The highest platform top a box has come down onto this step: one that
+     * overlaps the box [boxLeft, boxRight) × [boxTop, boxBottom) and whose
+     * top is no more than LANDING_TOLERANCE above prevBottom, the box's
+     * bottom edge before it moved. NaN if there is none.
+     */
+    public float landingTop(float boxLeft, float boxRight, float boxTop, float boxBottom, float prevBottom) {
+        if (columns == 0)
+            return Float.NaN;
+        int c0 = Math.max(0, column(boxLeft)), c1 = Math.min(columns - 1, column(boxRight));
+        float minTop = prevBottom - LANDING_TOLERANCE;
+        float best = Float.NaN;
+        for (int c = c0; c <= c1; c++) {
+            int[] ids = buckets[c];
+            for (int k = firstAtOrBelow(ids, minTop); k < ids.length; k++) {
+                int i = ids[k];
+                float t = top[i];
+                if (t >= boxBottom || t >= best)
+                    break; // sorted by top: the rest are lower still
+                if (boxLeft < right[i] && left[i] < boxRight && boxTop < bottom[i]) {
+                    best = t;
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+
+    /** Number of platforms indexed. */
+    public int size() {
+        return top.length;
+    }
+
+    private int column(float x) {
+        return (int) Math.floor((x - originX) / COLUMN);
+    }
+
+    /** First position in ids whose top is >= y. */
+    private int firstAtOrBelow(int[] ids, float y) {
+        int lo = 0, hi = ids.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (top[ids[mid]] < y)
+                lo = mid + 1;
+            else
+                hi = mid;
+        }
+        return lo;
+    }
+}
@@ -13,6 +13,22 @@ public final class World {
 
     public static final List<Platform> platforms = new ArrayList<>();
 
+    private static volatile int version;
+    private static volatile PlatformIndex platformIndex = PlatformIndex.build(List.of());
+
+    /**
+     * Incremented whenever the platform layout is rebuilt; caches of the
+     * level geometry (StaticLayer) compare it to know when to repaint.
+     */
+    public static int version() {
+        return version;
+    }
+
+    /** Landing lookup over the current platform layout (rebuilt by init). */
+    public static PlatformIndex platformIndex() {
+        return platformIndex;
+    }
+
     /** Initialise the platform layout for the industrial level. */
     public static void init() {
         platforms.clear();
@@ -28,5 +44,7 @@ public final class World {
         platforms.add(new Platform(640, 310, 200, 18));
         // Top catwalk
         platforms.add(new Platform(310, 190, 280, 18));
+        platformIndex = PlatformIndex.build(platforms);
+        version++; // last, so a cache never sees the new version with the old layout
     }
 }